@@ -4,6 +4,7 @@ import com.vani.week4.backend.auth.dto.request.*;
 import com.vani.week4.backend.auth.dto.response.LoginResponse;
 import com.vani.week4.backend.auth.dto.response.TokenResponse;
 import com.vani.week4.backend.auth.dto.response.SignUpResponse;
+import com.vani.week4.backend.auth.security.AuthRateLimiter;
 import com.vani.week4.backend.auth.service.AuthService;
 import com.vani.week4.backend.global.CurrentUser;
 import com.vani.week4.backend.global.ErrorCode;
@@ -38,6 +39,7 @@ import java.util.Optional;
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthRateLimiter authRateLimiter;
     private static final int REFRESH_TOKEN_EXPIRATION = 1209600;//14 * 24 * 3600 14일
 
     // 회원가입
@@ -51,13 +53,17 @@ public class AuthController {
     /**
      * 로그인/토큰 발급 메서드
      * Access토큰은 보안헤더에, refresh토큰은 쿠키에 담아, 사용자의 닉네임과 함께 반환한다.
+     * 무차별 대입을 막기 위해 IP, 이메일 단위로 요청 수를 제한한다.
      * @return : 사용자의 닉네임
      */
     @PostMapping("/tokens")
     public ResponseEntity<Map<String,String>> login(
             @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest,
             HttpServletResponse response
     ){
+        authRateLimiter.checkLogin(authRateLimiter.resolveClientIp(httpRequest), request.email());
+
         LoginResponse loginResponse = authService.login(request);
         response.setHeader("Authorization","Bearer " + loginResponse.accessToken());
         addTokenCookie(
@@ -71,7 +77,7 @@ public class AuthController {
 
     /**
      * 로그아웃을 처리합니다.
-     * 서버의 Refresh 토큰을 삭제하고 클라이언트의 토큰 쿠키를 만료시킵니다.
+     * 서버의 Refresh 토큰을 삭제하고 Access 토큰을 폐기한 뒤, 클라이언트의 토큰 쿠키를 만료시킵니다.
      *
      * @return 204 No Content
      */
@@ -79,6 +85,7 @@ public class AuthController {
     public ResponseEntity<Void> logout(HttpServletRequest request, HttpServletResponse response){
         Optional<String> refreshToken = extractRefreshTokenFromCookie(request);
         refreshToken.ifPresent(authService::deleteToken);
+        extractAccessToken(request).ifPresent(authService::revokeAccessToken);
 
         addTokenCookie( response, "refreshToken", "",
                 0, "/auth/refresh"
@@ -104,6 +111,8 @@ public class AuthController {
 
         log.info("===== ➡️ /auth/refresh 요청 도착 =====");
 
+        authRateLimiter.checkRefresh(authRateLimiter.resolveClientIp(request));
+
         // 쿠키에서 토큰 추출
         String refreshToken = extractRefreshTokenFromCookie(request)
                 .orElseThrow(() ->{
@@ -196,6 +205,22 @@ public class AuthController {
                 .findFirst();
     }
 
+    /**
+     * 헤더 또는 쿠키에서 액세스 토큰을 추출하는 메서드
+     * 로그아웃은 인증 필터를 거치지 않으므로 직접 꺼냄
+     * */
+    private Optional<String> extractAccessToken(HttpServletRequest request) {
+        return Optional.ofNullable(request.getHeader(HttpHeaders.AUTHORIZATION))
+                .filter(header -> header.startsWith("Bearer "))
+                .map(header -> header.substring(7))
+                .or(() -> Optional.ofNullable(request.getCookies())
+                        .stream()
+                        .flatMap(Arrays::stream)
+                        .filter(cookie -> "accessToken".equals(cookie.getName()))
+                        .map(Cookie::getValue)
+                        .findFirst());
+    }
+
     // TODO : 이메일 인증
 //    @PostMapping("/email")
     // 발송
@@ -0,0 +1,90 @@
+package com.vani.week4.backend.auth.batch;
+
+import com.vani.week4.backend.auth.service.RefreshSessionStore;
+import com.vani.week4.backend.global.lock.ClusterJobLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리프레시 토큰 세션 Hash에서 만료된 필드를 정리하는 스케쥴러
+ * Hash 필드는 개별 TTL이 없으므로 SCAN으로 세션 키를 조금씩 훑으며 만료 시각이 지난 jti를 삭제
+ * 여러 인스턴스 중 잠금을 얻은 한 곳에서만 실행
+ * @author vani
+ * @since 10/17/26
+ */
+@Slf4j
+@Component
+public class RefreshSessionCleanupScheduler {
+    private static final String JOB_NAME = "refresh-session-cleanup";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(30);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+    private static final long SCAN_COUNT = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ClusterJobLock clusterJobLock;
+
+    public RefreshSessionCleanupScheduler(
+            @Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate,
+            ClusterJobLock clusterJobLock) {
+        this.redisTemplate = redisTemplate;
+        this.clusterJobLock = clusterJobLock;
+    }
+
+    @Scheduled(cron = "0 0 * * * *") // 매시 정각
+    public void cleanupExpiredSessions() {
+        clusterJobLock.runExclusively(JOB_NAME, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, this::cleanup);
+    }
+
+    private void cleanup() {
+        long now = System.currentTimeMillis();
+        int scannedKeys = 0;
+        int removed = 0;
+
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(RefreshSessionStore.SESSION_KEY_PREFIX + "*")
+                .count(SCAN_COUNT)
+                .build();
+
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            while (keys.hasNext()) {
+                removed += removeExpired(keys.next(), now);
+                scannedKeys++;
+            }
+        } catch (Exception e) {
+            log.error("리프레시 세션 정리 실패, 다음 주기에 재시도", e);
+            return;
+        }
+        log.info("리프레시 세션 정리 완료 : 검사 키: {}, 삭제 세션: {}", scannedKeys, removed);
+    }
+
+    private int removeExpired(String key, long now) {
+        Map<Object, Object> sessions = redisTemplate.opsForHash().entries(key);
+        List<Object> expired = new ArrayList<>();
+        for (Map.Entry<Object, Object> session : sessions.entrySet()) {
+            try {
+                if (Long.parseLong(session.getValue().toString()) <= now) {
+                    expired.add(session.getKey());
+                }
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 세션 만료 값 - key: {}, jti: {}", key, session.getKey());
+                expired.add(session.getKey());
+            }
+        }
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        // 마지막 필드가 지워지면 Redis가 키도 함께 삭제
+        redisTemplate.opsForHash().delete(key, expired.toArray());
+        return expired.size();
+    }
+}
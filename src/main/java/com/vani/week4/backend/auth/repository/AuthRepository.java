@@ -2,8 +2,9 @@ package com.vani.week4.backend.auth.repository;
 
 import com.vani.week4.backend.auth.entity.Auth;
 import com.vani.week4.backend.auth.entity.ProviderType;
-import com.vani.week4.backend.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -18,7 +19,11 @@ public interface AuthRepository extends JpaRepository<Auth, String> {
 
     Optional<Auth> findByEmail(String email);
 
-    Optional<Auth> findByUserAndProvider(User user, ProviderType provider);
+    // 로그인용, 비밀번호 확인을 트랜잭션 밖에서 하도록 유저까지 한번에 읽음
+    @Query("SELECT a FROM Auth a JOIN FETCH a.user WHERE a.email = :email")
+    Optional<Auth> findByEmailWithUser(@Param("email") String email);
+
+    Optional<Auth> findByUserIdAndProvider(String userId, ProviderType provider);
 
     Optional<Auth> findByUserId(String userId);
 }
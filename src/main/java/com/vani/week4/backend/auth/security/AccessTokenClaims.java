@@ -0,0 +1,21 @@
+package com.vani.week4.backend.auth.security;
+
+import com.vani.week4.backend.user.entity.UserRole;
+
+/**
+ * 검증이 끝난 Access 토큰에서 필터가 사용하는 값만 담은 객체
+ * @param userId : 토큰 주체(사용자 ID)
+ * @param role : 유저의 권한
+ * @param jti : 토큰 고유 식별자, 폐기 확인에 사용 (이전에 발급된 토큰은 null)
+ * @param issuedAtMs : 토큰 발급 시각(epoch ms)
+ * @param expiresAtMs : 토큰 만료 시각(epoch ms)
+ * @author vani
+ * @since 10/17/26
+ */
+public record AccessTokenClaims(
+        String userId,
+        UserRole role,
+        String jti,
+        long issuedAtMs,
+        long expiresAtMs
+) {}
@@ -0,0 +1,169 @@
+package com.vani.week4.backend.auth.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vani.week4.backend.global.ErrorCode;
+import com.vani.week4.backend.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * 로그인/토큰 재발급 요청을 IP, IP+이메일, 이메일 단위로 제한하는 슬라이딩 윈도우 리미터
+ * <ul>
+ *     <li>IP+이메일 : 낮은 한도, 한 곳에서 한 계정을 대입하는 경우</li>
+ *     <li>이메일 : 여러 IP에서 한 계정을 대입하는 경우, 남이 일부러 계정을 잠그기 어렵도록 IP 한도보다 높게 둠</li>
+ * </ul>
+ * 실패한 로그인도 BCrypt 비교 비용이 들기 때문에 서비스 호출 전에 거절
+ * Redis ZSET + Lua로 인스턴스 간 한도를 공유하고, Redis 장애 시 인스턴스 로컬 윈도우로 대체
+ * (로컬 대체 중에는 인스턴스마다 한도가 따로 적용됨)
+ * @author vani
+ * @since 10/17/26
+ */
+@Slf4j
+@Component
+public class AuthRateLimiter {
+    private static final String KEY_PREFIX = "rate:auth:";
+    private static final long LOCAL_WINDOW_MAX_SIZE = 100_000;
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/sliding-window-rate-limit.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long windowMs;
+    private final int loginPerIp;
+    private final int loginPerIpEmail;
+    private final int loginPerEmail;
+    private final int refreshPerIp;
+    private final Cache<String, LocalWindow> localWindows;
+    private final Counter rejectedCounter;
+    private final Counter fallbackCounter;
+
+    public AuthRateLimiter(
+            @Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${auth.rate-limit.window-seconds:60}") long windowSeconds,
+            @Value("${auth.rate-limit.login-per-ip:20}") int loginPerIp,
+            @Value("${auth.rate-limit.login-per-ip-email:5}") int loginPerIpEmail,
+            @Value("${auth.rate-limit.login-per-email:30}") int loginPerEmail,
+            @Value("${auth.rate-limit.refresh-per-ip:30}") int refreshPerIp
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.windowMs = Duration.ofSeconds(windowSeconds).toMillis();
+        this.loginPerIp = loginPerIp;
+        this.loginPerIpEmail = loginPerIpEmail;
+        this.loginPerEmail = loginPerEmail;
+        this.refreshPerIp = refreshPerIp;
+        this.localWindows = Caffeine.newBuilder()
+                .maximumSize(LOCAL_WINDOW_MAX_SIZE)
+                .expireAfterAccess(Duration.ofMillis(windowMs))
+                .build();
+        this.rejectedCounter = Counter.builder("auth.rate-limit.rejected").register(meterRegistry);
+        this.fallbackCounter = Counter.builder("auth.rate-limit.fallback").register(meterRegistry);
+    }
+
+    /**
+     * 로그인 요청을 IP, IP+이메일, 이메일 기준으로 제한
+     * @throws TooManyRequestsException 한도를 넘은 경우
+     */
+    public void checkLogin(String clientIp, String email) {
+        String normalizedEmail = email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+        acquire(
+                List.of(
+                        KEY_PREFIX + "login:ip:" + clientIp,
+                        KEY_PREFIX + "login:ip-email:" + clientIp + ":" + normalizedEmail,
+                        KEY_PREFIX + "login:email:" + normalizedEmail
+                ),
+                List.of(loginPerIp, loginPerIpEmail, loginPerEmail)
+        );
+    }
+
+    /**
+     * 토큰 재발급 요청을 IP 기준으로 제한
+     * @throws TooManyRequestsException 한도를 넘은 경우
+     */
+    public void checkRefresh(String clientIp) {
+        acquire(List.of(KEY_PREFIX + "refresh:ip:" + clientIp), List.of(refreshPerIp));
+    }
+
+    /**
+     * 요청자의 IP를 구하는 메서드
+     * ALB가 X-Forwarded-For 끝에 실제 접속 IP를 붙이므로 마지막 값을 사용 (앞쪽 값은 클라이언트가 조작 가능)
+     */
+    public String resolveClientIp(HttpServletRequest request) {
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            int lastComma = forwardedFor.lastIndexOf(',');
+            return forwardedFor.substring(lastComma + 1).trim();
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void acquire(List<String> keys, List<Integer> limits) {
+        boolean allowed;
+        try {
+            Object[] args = new Object[limits.size() + 2];
+            args[0] = String.valueOf(windowMs);
+            args[1] = UUID.randomUUID().toString();
+            for (int i = 0; i < limits.size(); i++) {
+                args[i + 2] = String.valueOf(limits.get(i));
+            }
+            Long result = redisTemplate.execute(SLIDING_WINDOW_SCRIPT, keys, args);
+            allowed = result != null && result == 1L;
+        } catch (Exception e) {
+            log.warn("Redis 요청 제한 실패, 로컬 윈도우로 대체 - keys: {}", keys, e);
+            fallbackCounter.increment();
+            allowed = acquireLocally(keys, limits);
+        }
+
+        if (!allowed) {
+            rejectedCounter.increment();
+            log.warn("인증 요청 한도 초과 - keys: {}", keys);
+            throw new TooManyRequestsException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+    }
+
+    private boolean acquireLocally(List<String> keys, List<Integer> limits) {
+        long now = System.currentTimeMillis();
+        List<LocalWindow> windows = keys.stream()
+                .map(key -> localWindows.get(key, k -> new LocalWindow()))
+                .toList();
+
+        for (int i = 0; i < windows.size(); i++) {
+            if (!windows.get(i).hasRoom(now, windowMs, limits.get(i))) {
+                return false;
+            }
+        }
+        windows.forEach(window -> window.record(now));
+        return true;
+    }
+
+    // 인스턴스 로컬 슬라이딩 윈도우, 요청 시각(ms)을 순서대로 보관
+    private static final class LocalWindow {
+        private final Deque<Long> timestamps = new ArrayDeque<>();
+
+        synchronized boolean hasRoom(long now, long windowMs, int limit) {
+            while (!timestamps.isEmpty() && timestamps.peekFirst() <= now - windowMs) {
+                timestamps.pollFirst();
+            }
+            return timestamps.size() < limit;
+        }
+
+        synchronized void record(long now) {
+            timestamps.addLast(now);
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package com.vani.week4.backend.auth.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.vani.week4.backend.user.entity.UserRole;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.SignatureException;
@@ -15,7 +13,6 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -33,26 +30,16 @@ import java.util.Optional;
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    private static final AntPathMatcher pathMatcher = new AntPathMatcher();
     private final JwtTokenProvider jwtTokenProvider;
     private final ObjectMapper objectMapper;
-
-    //필터 제외 경로 목록
-    private static final String[] EXCLUDED_PATHS = {
-            "/api/v1/auth/users", "/api/v1/auth/tokens", "/api/v1/auth/nickname", "/api/v1/auth/email",
-            "/api/v1/auth/logout", "/api/v1/auth/refresh", "/terms-of-service", "/privacy-policy",
-            "/health",
-            "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**",
-            "/api/loadtest/**"  // 부하 테스트 API (개발/테스트 환경 전용)
-    };
+    // 필터 제외 경로, SecurityConfig에서 등록
+    private final PublicPathMatcher publicPathMatcher;
+    private final TokenRevocationService tokenRevocationService;
 
     // 필터 제외 경로 설정
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getServletPath();
-
-        return Arrays.stream(EXCLUDED_PATHS)
-                .anyMatch(pattern -> pathMatcher.match(pattern, path));
+        return publicPathMatcher.matches(request.getServletPath());
     }
 
     /**
@@ -75,7 +62,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         Optional<String> token = extractToken(request);
 
         // 토큰이 없다면 토큰 없음 오류
-        //TODO 블랙리스트 추가시 변경 필수, 권한 설정 필요
+        //TODO 권한 설정 필요
         //TODO 글로벌 오류핸들러와 맞춰야함
         try {
             if (token.isEmpty()) {
@@ -83,7 +70,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             } else {
                 try {
-                    validateAndSetAttributes(token.get(), request);
+                    if (!validateAndSetAttributes(token.get(), request)) {
+                        // 로그아웃, 탈퇴로 폐기된 토큰
+                        setErrorResponse(response, "T004", "Access Token Revoked");
+                        return;
+                    }
                 } catch (ExpiredJwtException e) {
                     // 토큰 만료시
                     setErrorResponse(response, "T002", "Access Token Expired");
@@ -144,24 +135,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 .or(() -> extractTokenFromCookie(request));
     }
 
-    // 토큰 검증 및 요청 속성 설정
-    private void validateAndSetAttributes(String token, HttpServletRequest request) {
-
-        var jws = jwtTokenProvider.parse(token);
-        Claims body = jws.getBody();  // Claims 내용물.
-        request.setAttribute("authenticatedUserId", body.getSubject());
+    // 토큰 검증 및 요청 속성 설정, 폐기된 토큰이면 false
+    private boolean validateAndSetAttributes(String token, HttpServletRequest request) {
 
-        String roleStr = body.get("role", String.class);
-
-        //Enum값 으로 변경하기
-        try {
-            UserRole role = UserRole.valueOf(roleStr);
-            request.setAttribute("role", role);
-        } catch (IllegalArgumentException e) {
-            throw new MalformedJwtException("Invalid role Value in Token");
-        } catch (NullPointerException e) { // 👈 이게 없어서 터졌을 수도 있음
-            log.error("Role is null");
-            throw new MalformedJwtException("Role is missing");
+        // 서명 검증과 권한 값 확인은 JwtTokenProvider에서, 최근 검증한 토큰은 캐시에서 바로 반환
+        AccessTokenClaims claims = jwtTokenProvider.parseAccessToken(token);
+        // 폐기 여부는 캐시하지 않고 매번 확인, 대부분 로컬 Bloom 필터에서 끝남
+        if (tokenRevocationService.isRevoked(claims)) {
+            return false;
         }
+        request.setAttribute("authenticatedUserId", claims.userId());
+        request.setAttribute("role", claims.role());
+        return true;
     }
 }
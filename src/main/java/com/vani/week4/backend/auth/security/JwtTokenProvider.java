@@ -1,18 +1,29 @@
 package com.vani.week4.backend.auth.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.vani.week4.backend.user.entity.UserRole;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -24,17 +35,50 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 @Component
 public class JwtTokenProvider {
+    // 같은 클라이언트가 연달아 보내는 요청의 토큰을 재검증하지 않도록 최근 검증 결과를 보관
+    private static final long VERIFIED_TOKEN_CACHE_MAX_SIZE = 10_000;
+
     private final Key key;
+    // 파서는 불변이라 스레드 간 공유 가능, 요청마다 만들지 않음
+    private final JwtParser jwtParser;
+    private final Cache<String, AccessTokenClaims> verifiedTokenCache;
     private final long accessExpirationsMs;
     private final long refreshExpirationMs;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secretKey,
             @Value("${jwt.access-expiration-ms}") long accessExpirationMs,
-            @Value("${jwt.refresh-expiration-ms}") long refreshExpirationMs
+            @Value("${jwt.refresh-expiration-ms}") long refreshExpirationMs,
+            MeterRegistry meterRegistry
     ) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes); //키 객체 생성
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(VERIFIED_TOKEN_CACHE_MAX_SIZE)
+                .expireAfter(new Expiry<String, AccessTokenClaims>() {
+                    // 토큰의 exp 시각에 맞춰 만료
+                    @Override
+                    public long expireAfterCreate(String tokenHash, AccessTokenClaims claims, long currentTime) {
+                        long remainingMs = Math.max(0, claims.expiresAtMs() - System.currentTimeMillis());
+                        return TimeUnit.MILLISECONDS.toNanos(remainingMs);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, AccessTokenClaims claims,
+                                                  long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, AccessTokenClaims claims,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokenCache, "jwt.verifiedTokens");
         this.accessExpirationsMs = accessExpirationMs;
         this.refreshExpirationMs = refreshExpirationMs;
         log.info("JwtTokenProvider initialized.");
@@ -62,6 +106,7 @@ public class JwtTokenProvider {
         return Jwts.builder()
                 .setSubject(userId)
                 .claim("role", role)
+                .setId(UUID.randomUUID().toString()) // 토큰 폐기 시 식별자로 사용
                 .setIssuedAt(now)
                 .setExpiration(expiration)
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -71,9 +116,10 @@ public class JwtTokenProvider {
     /**
      * Refresh 토큰을 생성하는 메서드
      * @param userId: 토큰 주체 (사용자 ID)
+     * @param jti : 토큰 고유 식별자, 세션 저장소의 키로 사용
      * @return 생성된 Refresh 토큰 반환(JWT)
      * */
-    public String generateRefreshToken(String userId) {
+    public String generateRefreshToken(String userId, String jti) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + refreshExpirationMs);
 
@@ -83,7 +129,7 @@ public class JwtTokenProvider {
         return Jwts.builder()
                 .setSubject(userId)
                 .claim("typ", "refresh")
-                .setId(UUID.randomUUID().toString()) // 토큰 고유 식별자
+                .setId(jti) // 토큰 고유 식별자
                 .setIssuedAt(now)
                 .setExpiration(expiration)
                 .signWith(key, SignatureAlgorithm.HS256)
@@ -94,6 +140,58 @@ public class JwtTokenProvider {
      * 리프레시 토큰 검증 메서드
      * */
     public Jws<Claims> parse(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return jwtParser.parseClaimsJws(token);
+    }
+
+    /**
+     * Access 토큰을 검증하고 필요한 값을 꺼내는 메서드
+     * 최근에 검증한 토큰이면 서명 검증과 JSON 디코딩을 건너뛰고 캐시된 값을 반환
+     * 캐시는 토큰 원문 대신 SHA-256 해시를 키로 사용하고, 토큰의 exp 시각에 만료
+     *
+     * @param token : Access 토큰
+     * @return 검증된 토큰 정보
+     * @throws io.jsonwebtoken.JwtException 만료, 위조, 형식 오류, 권한 값 오류
+     * */
+    public AccessTokenClaims parseAccessToken(String token) {
+        String tokenHash = sha256(token);
+        AccessTokenClaims cached = verifiedTokenCache.getIfPresent(tokenHash);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims body = parse(token).getBody();
+        String roleStr = body.get("role", String.class);
+        if (roleStr == null) {
+            log.error("Role is null");
+            throw new MalformedJwtException("Role is missing");
+        }
+
+        //Enum값 으로 변경하기
+        UserRole role;
+        try {
+            role = UserRole.valueOf(roleStr);
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("Invalid role Value in Token");
+        }
+
+        AccessTokenClaims claims = new AccessTokenClaims(
+                body.getSubject(),
+                role,
+                body.getId(),
+                body.getIssuedAt() == null ? 0 : body.getIssuedAt().getTime(),
+                body.getExpiration().getTime()
+        );
+        verifiedTokenCache.put(tokenHash, claims);
+        return claims;
+    }
+
+    private String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM이 SHA-256을 지원해야 하므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
     }
 }
\ No newline at end of file
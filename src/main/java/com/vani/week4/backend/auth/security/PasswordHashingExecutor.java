@@ -0,0 +1,121 @@
+package com.vani.week4.backend.auth.security;
+
+import com.vani.week4.backend.global.ErrorCode;
+import com.vani.week4.backend.global.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt 해싱을 전용 스레드풀에서 실행하는 클래스
+ * 로그인이 몰려도 해싱에 쓰는 CPU를 스레드 수만큼으로 제한해서 조회 요청이 밀리지 않도록 함
+ * 대기열이 가득 차거나 제한 시간 안에 끝나지 않으면 바로 429로 거절
+ * <ul>
+ *     <li>auth.password.hash : 작업별(encode/matches) 해싱 시간</li>
+ *     <li>auth.password.hash.rejected : 거절 수</li>
+ *     <li>executor.* (name=passwordHashing) : 스레드풀 상태</li>
+ * </ul>
+ * @author vani
+ * @since 10/17/26
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService executor;
+    private final long timeoutMs;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${auth.password-hashing.threads:2}") int threads,
+            @Value("${auth.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password-hashing.timeout-ms:3000}") long timeoutMs
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMs = timeoutMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "passwordHashing");
+
+        this.encodeTimer = Timer.builder("auth.password.hash").tag("op", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash").tag("op", "matches").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hash.rejected").register(meterRegistry);
+
+        log.info("PasswordHashingExecutor initialized. threads: {}, queue: {}", threads, queueCapacity);
+    }
+
+    /**
+     * 비밀번호를 해싱하는 메서드
+     * @throws TooManyRequestsException 해싱 대기열이 가득 찼거나 제한 시간을 넘긴 경우
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * 비밀번호가 저장된 해시와 일치하는지 확인하는 메서드
+     * @throws TooManyRequestsException 해싱 대기열이 가득 찼거나 제한 시간을 넘긴 경우
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해싱 대기열 초과로 거절");
+            throw new TooManyRequestsException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기열에 남아있다면 실행되지 않도록 취소
+            future.cancel(true);
+            rejectedCounter.increment();
+            log.warn("비밀번호 해싱 시간 초과로 거절 - timeout: {}ms", timeoutMs);
+            throw new TooManyRequestsException(ErrorCode.TOO_MANY_REQUESTS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해싱 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해싱 실패", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,93 @@
+package com.vani.week4.backend.auth.security;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인증 없이 접근 가능한 경로를 판별하는 매처
+ * 시작할 때 한번만 만들어두고 요청마다 AntPathMatcher로 패턴을 하나씩 비교하지 않음
+ * <ul>
+ *     <li>와일드카드가 없는 경로 : HashSet으로 정확히 비교</li>
+ *     <li>"/prefix/**" 경로 : 문자 트라이로 prefix 자체 또는 "prefix/..." 인지 비교</li>
+ * </ul>
+ * 매칭 중에는 객체를 만들지 않음. 그 외 와일드카드("*", "?", "{}")는 지원하지 않음
+ * @author vani
+ * @since 10/17/26
+ */
+public class PublicPathMatcher {
+    private static final String ANY_SUFFIX = "/**";
+    // 경로는 ASCII라고 가정, 그 외 문자가 나오면 prefix 불일치로 처리
+    private static final int ALPHABET_SIZE = 128;
+
+    private final Set<String> exactPaths = new HashSet<>();
+    private final Node prefixRoot = new Node();
+
+    public PublicPathMatcher(List<String> patterns) {
+        for (String pattern : patterns) {
+            if (pattern.endsWith(ANY_SUFFIX)) {
+                String prefix = pattern.substring(0, pattern.length() - ANY_SUFFIX.length());
+                validate(pattern, prefix);
+                addPrefix(prefix);
+            } else {
+                validate(pattern, pattern);
+                exactPaths.add(pattern);
+            }
+        }
+    }
+
+    /**
+     * 공개 경로인지 확인하는 메서드
+     * @param path : 서블릿 경로
+     * @return 공개 경로라면 true
+     */
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        if (exactPaths.contains(path)) {
+            return true;
+        }
+
+        Node node = prefixRoot;
+        int length = path.length();
+        for (int i = 0; i < length; i++) {
+            // AntPathMatcher와 같이 "/a/**"는 "/a"와 "/a/..."에 매칭되고 "/ab"에는 매칭되지 않음
+            if (node.prefixEnd && path.charAt(i) == '/') {
+                return true;
+            }
+            char c = path.charAt(i);
+            if (c >= ALPHABET_SIZE || node.children[c] == null) {
+                return false;
+            }
+            node = node.children[c];
+        }
+        return node.prefixEnd;
+    }
+
+    private void addPrefix(String prefix) {
+        Node node = prefixRoot;
+        for (int i = 0; i < prefix.length(); i++) {
+            char c = prefix.charAt(i);
+            if (node.children[c] == null) {
+                node.children[c] = new Node();
+            }
+            node = node.children[c];
+        }
+        node.prefixEnd = true;
+    }
+
+    private void validate(String pattern, String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            if (c == '*' || c == '?' || c == '{' || c == '}' || c >= ALPHABET_SIZE) {
+                throw new IllegalArgumentException("지원하지 않는 경로 패턴: " + pattern);
+            }
+        }
+    }
+
+    private static final class Node {
+        private final Node[] children = new Node[ALPHABET_SIZE];
+        private boolean prefixEnd;
+    }
+}
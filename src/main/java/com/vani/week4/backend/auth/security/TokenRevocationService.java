@@ -0,0 +1,236 @@
+package com.vani.week4.backend.auth.security;
+
+import com.vani.week4.backend.global.util.RebuildableBloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Access 토큰 폐기 목록
+ * <ul>
+ *     <li>auth:revoked:tokens : 개별 토큰 폐기(로그아웃), ZSET jti -> 토큰 만료 시각</li>
+ *     <li>auth:revoked:users : 사용자 전체 폐기(탈퇴), ZSET userId -> 폐기 시각, 그 전에 발급된 토큰은 모두 무효</li>
+ * </ul>
+ * 요청마다 Redis를 조회하지 않도록 폐기 항목을 로컬 Bloom 필터에 복제해두고, 필터에 걸린 경우에만 Redis로 확인
+ * 다른 인스턴스의 폐기는 Pub/Sub으로 받아 필터에 추가, 만료된 항목을 비우기 위해 주기적으로 필터를 새로 만듦
+ * Redis 조회가 실패했을 때
+ * <ul>
+ *     <li>필터가 준비된 경우 : 필터에 걸린 토큰만 Redis로 오므로 필터 결과(폐기)를 그대로 사용, 폐기되지 않은 토큰은 영향 없음</li>
+ *     <li>필터가 아직 없는 경우 : 판단할 근거가 없으므로 실패가 이어진 지 fail-open-ms 동안만 통과시키고(fail-open), 그 뒤에는 폐기로 처리</li>
+ * </ul>
+ * 첫 필터 생성은 성공할 때까지 짧은 간격으로 재시도해서 fail-open 구간을 줄임
+ * @author vani
+ * @since 10/17/26
+ */
+@Slf4j
+@Component
+public class TokenRevocationService implements MessageListener {
+    public static final String REVOCATION_CHANNEL = "auth:revocations";
+    private static final String REVOKED_TOKENS_KEY = "auth:revoked:tokens";
+    private static final String REVOKED_USERS_KEY = "auth:revoked:users";
+    private static final String TOKEN_ENTRY_PREFIX = "jti:";
+    private static final String USER_ENTRY_PREFIX = "user:";
+
+    private static final long MIN_EXPECTED_REVOCATIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final long SCAN_COUNT = 1000;
+    private static final long INITIAL_RETRY_DELAY_MS = 1_000;
+    private static final long MAX_RETRY_DELAY_MS = 30_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long accessExpirationMs;
+    private final long failOpenMs;
+    private final Counter bloomHitCounter;
+    private final Counter revokedCounter;
+    private final Counter failClosedCounter;
+    private final Counter failOpenCounter;
+    // 필터 없이 Redis 조회가 처음 실패한 시각, 조회에 성공하면 0으로 초기화
+    private final AtomicLong failingSince = new AtomicLong();
+
+    // 첫 필터를 만들기 전에는 모든 요청을 Redis로 확인
+    private final RebuildableBloomFilter revokedEntries =
+            new RebuildableBloomFilter(MIN_EXPECTED_REVOCATIONS, FALSE_POSITIVE_RATE);
+
+    public TokenRevocationService(
+            @Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.access-expiration-ms}") long accessExpirationMs,
+            @Value("${auth.revocation.fail-open-ms:60000}") long failOpenMs
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.accessExpirationMs = accessExpirationMs;
+        this.failOpenMs = failOpenMs;
+        this.bloomHitCounter = Counter.builder("auth.revocation.bloom.hit").register(meterRegistry);
+        this.revokedCounter = Counter.builder("auth.revocation.rejected").register(meterRegistry);
+        this.failClosedCounter = Counter.builder("auth.revocation.fail-closed").register(meterRegistry);
+        this.failOpenCounter = Counter.builder("auth.revocation.fail-open").register(meterRegistry);
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+    }
+
+    /**
+     * 토큰 하나를 폐기 (로그아웃)
+     * @param jti : 토큰 고유 식별자
+     * @param expiresAtMs : 토큰 만료 시각, 이후에는 폐기 목록에서 제거
+     */
+    public void revokeToken(String jti, long expiresAtMs) {
+        redisTemplate.opsForZSet().add(REVOKED_TOKENS_KEY, jti, expiresAtMs);
+        publish(TOKEN_ENTRY_PREFIX + jti);
+    }
+
+    /**
+     * 사용자에게 지금까지 발급된 모든 토큰을 폐기 (탈퇴)
+     */
+    public void revokeUser(String userId) {
+        redisTemplate.opsForZSet().add(REVOKED_USERS_KEY, userId, System.currentTimeMillis());
+        publish(USER_ENTRY_PREFIX + userId);
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인
+     * 대부분의 요청은 Bloom 필터에서 바로 false로 끝나고, 필터에 걸린 경우에만 Redis를 조회
+     */
+    public boolean isRevoked(AccessTokenClaims claims) {
+        boolean ready = revokedEntries.isReady();
+        if (ready) {
+            boolean tokenHit = claims.jti() != null && revokedEntries.mightContain(TOKEN_ENTRY_PREFIX + claims.jti());
+            boolean userHit = revokedEntries.mightContain(USER_ENTRY_PREFIX + claims.userId());
+            if (!tokenHit && !userHit) {
+                return false;
+            }
+            bloomHitCounter.increment();
+        }
+
+        boolean revoked;
+        try {
+            revoked = isRevokedInRedis(claims);
+        } catch (Exception e) {
+            return onRedisFailure(ready, claims, e);
+        }
+        failingSince.set(0);
+        if (revoked) {
+            revokedCounter.increment();
+        }
+        return revoked;
+    }
+
+    private boolean onRedisFailure(boolean ready, AccessTokenClaims claims, Exception e) {
+        // 필터에 걸린 토큰 : 대부분 실제로 폐기된 토큰이므로 필터 결과를 따름
+        if (ready) {
+            failClosedCounter.increment();
+            log.error("토큰 폐기 여부 확인 실패, 필터 결과로 폐기 처리 - userId: {}", claims.userId(), e);
+            return true;
+        }
+
+        // 필터도 Redis도 없으면 모든 요청이 401이 되므로 제한된 시간 동안만 통과
+        long now = System.currentTimeMillis();
+        long since = failingSince.updateAndGet(value -> value == 0 ? now : value);
+        if (now - since < failOpenMs) {
+            failOpenCounter.increment();
+            log.warn("토큰 폐기 필터 준비 전 Redis 조회 실패, 통과 처리 - userId: {}", claims.userId(), e);
+            return false;
+        }
+        failClosedCounter.increment();
+        log.error("토큰 폐기 여부 확인 실패가 {}ms 넘게 이어져 폐기로 처리 - userId: {}", failOpenMs, claims.userId(), e);
+        return true;
+    }
+
+    private boolean isRevokedInRedis(AccessTokenClaims claims) {
+        if (claims.jti() != null
+                && redisTemplate.opsForZSet().score(REVOKED_TOKENS_KEY, claims.jti()) != null) {
+            return true;
+        }
+        Double revokedAt = redisTemplate.opsForZSet().score(REVOKED_USERS_KEY, claims.userId());
+        return revokedAt != null && claims.issuedAtMs() <= revokedAt;
+    }
+
+    // 다른 인스턴스의 폐기를 받아 로컬 필터에 추가
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        revokedEntries.put(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void publish(String entry) {
+        revokedEntries.put(entry);
+        redisTemplate.convertAndSend(REVOCATION_CHANNEL, entry);
+    }
+
+    // 첫 필터는 성공할 때까지 간격을 늘려가며 재시도, 준비 완료를 늦추지 않도록 별도 스레드에서 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Thread.ofVirtual().name("token-revocation-init").start(() -> {
+            long delay = INITIAL_RETRY_DELAY_MS;
+            while (!revokedEntries.isReady() && !tryRebuild()) {
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                delay = Math.min(delay * 2, MAX_RETRY_DELAY_MS);
+            }
+        });
+    }
+
+    /**
+     * 만료된 폐기 항목을 지우고 Redis 기준으로 Bloom 필터를 새로 만들어 교체
+     * Bloom 필터는 삭제를 지원하지 않으므로 만료된 항목은 이렇게 주기적으로 비움
+     */
+    @Scheduled(fixedDelay = 300_000, initialDelay = 300_000) // 5분마다
+    public void rebuild() {
+        tryRebuild();
+    }
+
+    // 실패하면 기존 필터를 유지하고 false
+    boolean tryRebuild() {
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_TOKENS_KEY, 0, now);
+            // 폐기 시각으로부터 Access 토큰 수명이 지나면 그 전에 발급된 토큰은 모두 만료됨
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_USERS_KEY, 0, now - accessExpirationMs);
+
+            long size = zCard(REVOKED_TOKENS_KEY) + zCard(REVOKED_USERS_KEY);
+            revokedEntries.rebuild(size, sink -> {
+                load(sink, REVOKED_TOKENS_KEY, TOKEN_ENTRY_PREFIX);
+                load(sink, REVOKED_USERS_KEY, USER_ENTRY_PREFIX);
+            });
+            log.info("토큰 폐기 필터 갱신 완료 : 항목 수: {}", size);
+            return true;
+        } catch (Exception e) {
+            log.error("토큰 폐기 필터 갱신 실패, 기존 필터 유지", e);
+            return false;
+        }
+    }
+
+    private long zCard(String key) {
+        Long size = redisTemplate.opsForZSet().zCard(key);
+        return size == null ? 0 : size;
+    }
+
+    private void load(Consumer<String> sink, String key, String entryPrefix) {
+        ScanOptions options = ScanOptions.scanOptions().count(SCAN_COUNT).build();
+        try (Cursor<ZSetOperations.TypedTuple<String>> cursor = redisTemplate.opsForZSet().scan(key, options)) {
+            while (cursor.hasNext()) {
+                sink.accept(entryPrefix + cursor.next().getValue());
+            }
+        }
+    }
+}
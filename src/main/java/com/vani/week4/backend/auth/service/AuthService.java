@@ -6,7 +6,10 @@ import com.vani.week4.backend.auth.dto.response.SignUpResponse;
 import com.vani.week4.backend.auth.entity.Auth;
 import com.vani.week4.backend.auth.entity.ProviderType;
 import com.vani.week4.backend.auth.repository.AuthRepository;
+import com.vani.week4.backend.auth.security.AccessTokenClaims;
 import com.vani.week4.backend.auth.security.JwtTokenProvider;
+import com.vani.week4.backend.auth.security.PasswordHashingExecutor;
+import com.vani.week4.backend.auth.security.TokenRevocationService;
 import com.vani.week4.backend.global.ErrorCode;
 import com.vani.week4.backend.global.exception.*;
 import com.vani.week4.backend.user.dto.PasswordUpdateRequest;
@@ -16,13 +19,12 @@ import com.vani.week4.backend.user.service.UserService;
 import io.jsonwebtoken.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.github.f4b6a3.ulid.UlidCreator;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.time.Duration;
+import java.util.UUID;
 
 /**
  * @author vani
@@ -37,9 +39,13 @@ public class AuthService {
     private final AuthRepository authRepository;
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final PasswordEncoder passwordEncoder;
-    private final RedisTemplate<String,String> redisTemplate;
+    // BCrypt는 요청 스레드가 아닌 전용 스레드풀에서 실행
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final RefreshSessionStore refreshSessionStore;
+    private final TokenRevocationService tokenRevocationService;
+    private final SignUpAvailabilityFilter signUpAvailabilityFilter;
     private final UserService userService;
+    private final TransactionTemplate transactionTemplate;
     /**
      * 회원가입을 진행하는 메서드
      * @param signUpRequest : 회원가입 정보(이메일, 비밀번호, 닉네임, 프로필 이미지 url)
@@ -47,22 +53,44 @@ public class AuthService {
      * */
     // TODO : OAUTH, 소셜로그인 도입
     // TODO : local로 가입시 중복이메일 확인 내부로직
-    @Transactional
+    // 해싱을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 전에 해싱
     public SignUpResponse signUp(SignUpRequest signUpRequest){
-        // User 생성 요청
+        String passwordHash = passwordHashingExecutor.encode(signUpRequest.password());
         String userId = UlidCreator.getUlid().toString();
 
-        User user = userService.createUser(userId, signUpRequest);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // 중복 확인 API는 필터를 먼저 보므로 가입 시에는 DB로 다시 확인
+                if (authRepository.existsByEmail(signUpRequest.email())) {
+                    throw new EmailAlreadyExistsException(ErrorCode.RESOURCE_CONFLICT);
+                }
+                if (userRepository.existsByNickname(signUpRequest.nickname())) {
+                    throw new NicknameAlreadyExistsException(ErrorCode.RESOURCE_CONFLICT);
+                }
 
-        //Auth 생성 요청
-        Auth auth = Auth.ceateAuth(
-                user,
-                userId,
-                signUpRequest.email(),
-                ProviderType.LOCAL,
-                passwordEncoder.encode(signUpRequest.password())
-        );
-        authRepository.save(auth);
+                // User 생성 요청
+                User user = userService.createUser(userId, signUpRequest);
+
+            //Auth 생성 요청
+                Auth auth = Auth.ceateAuth(
+                        user,
+                        userId,
+                        signUpRequest.email(),
+                        ProviderType.LOCAL,
+                        passwordHash
+                );
+                authRepository.saveAndFlush(auth);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 값으로 가입한 경우 유니크 제약에서 걸림
+            if (authRepository.existsByEmail(signUpRequest.email())) {
+                throw new EmailAlreadyExistsException(ErrorCode.RESOURCE_CONFLICT);
+            }
+            throw new NicknameAlreadyExistsException(ErrorCode.RESOURCE_CONFLICT);
+        }
+        // 중복 확인 필터에 반영, 트랜잭션이 커밋된 뒤에만 도달하므로 롤백된 가입은 필터에 들어가지 않음
+        signUpAvailabilityFilter.addEmail(signUpRequest.email());
+        signUpAvailabilityFilter.addNickname(signUpRequest.nickname());
 
         return new SignUpResponse(userId);
     }
@@ -73,13 +101,13 @@ public class AuthService {
      * @return : 인증용 토큰 발급
      * */
     // TODO : 삭제 후 재로그인 전략 필요
-    @Transactional(readOnly = true)
+    // 해싱을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 조회 후 확인
     public LoginResponse login(LoginRequest request) {
         // 인증 정보 확인
-        Auth auth = authRepository.findByEmail(request.email())
+        Auth auth = authRepository.findByEmailWithUser(request.email())
                 .orElseThrow(() -> new UserNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
         // 비밀번호 확인
-        if (!passwordEncoder.matches(request.password(), auth.getPasswordHash())){
+        if (!passwordHashingExecutor.matches(request.password(), auth.getPasswordHash())){
             throw new InvalidPasswordException(ErrorCode.RESOURCE_CONFLICT);
         }
 
@@ -99,13 +127,11 @@ public class AuthService {
         String nickname = user.getNickname();
         //토큰생성
         String accessToken = jwtTokenProvider.generateAccessToken(userId, user.getUserRole());
-        String refreshToken = jwtTokenProvider.generateRefreshToken(userId);
+        // 기기마다 세션을 따로 저장해서 다른 기기의 로그인을 끊지 않음
+        String jti = UUID.randomUUID().toString();
+        String refreshToken = jwtTokenProvider.generateRefreshToken(userId, jti);
         try {
-            redisTemplate.opsForValue().set(
-                    userId,
-                    refreshToken,
-                    Duration.ofDays(14)
-            );
+            refreshSessionStore.save(userId, jti);
         } catch (Exception e) {
             log.error("Redis에 리프레시 토큰 저장 실패. UserId: {}", userId, e);
         }
@@ -123,33 +149,22 @@ public class AuthService {
      * */
     // TODO : 저장된 토큰 블랙리스트 처리 로직 필요
     public TokenResponse reissueTokens(String refreshToken) {
-        String userId = getUserIdFromToken(refreshToken);
+        Claims claims = parseRefreshToken(refreshToken);
+        String userId = claims.getSubject();
 
         log.info("===== 🔄 토큰 갱신 시도 시작: UserId [{}] =====", userId);
 
-        //레디스에서 리프레시 토큰 조회
-        String storedRefreshToken = redisTemplate.opsForValue().get(userId);
-
-        if (storedRefreshToken == null || !storedRefreshToken.equals(refreshToken)) {
-            throw new InvalidTokenException(ErrorCode.UNAUTHORIZED);
-        }
-
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
 
         // 토큰 rotation, access, refresh 토큰 모두 발급
+        String newJti = UUID.randomUUID().toString();
         String newAccessToken = jwtTokenProvider.generateAccessToken(userId, user.getUserRole());
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(userId);
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken(userId, newJti);
 
-        //레디스에 새로운 리프레시 토큰 추가
-        try {
-            redisTemplate.opsForValue().set(
-                    userId,
-                    newRefreshToken,
-                    Duration.ofDays(14)
-            );
-        } catch (Exception e) {
-            log.error("Redis에 리프레시 토큰 저장 실패. UserId: {}", userId, e);
+        // 저장된 세션 확인과 교체를 Lua 스크립트 한번으로 처리, 이미 사용했거나 만료된 토큰이면 실패
+        if (!refreshSessionStore.rotate(userId, claims.getId(), newJti)) {
+            throw new InvalidTokenException(ErrorCode.UNAUTHORIZED);
         }
         return new TokenResponse(newAccessToken, newRefreshToken);
     }
@@ -160,10 +175,12 @@ public class AuthService {
      * @param refreshToken : 요청자에게 전달 받은 refresh 토큰
      * */
     public void deleteToken(String refreshToken) {
-        String userId = getUserIdFromToken(refreshToken);
+        Claims claims = parseRefreshToken(refreshToken);
+        String userId = claims.getSubject();
 
         try{
-            Boolean result = redisTemplate.delete(userId); // 키는 userId
+            // 이 기기의 세션만 삭제
+            boolean result = refreshSessionStore.delete(userId, claims.getId());
 
             if (result) {
                 log.info("리프레시 토큰 삭제 성공. UserId: {}", userId);
@@ -175,10 +192,51 @@ public class AuthService {
         }
     }
 
+    /**
+     * Access 토큰을 만료 전에 폐기하는 메서드 (로그아웃)
+     * 이미 만료되었거나 유효하지 않은 토큰은 폐기할 필요가 없으므로 무시
+     * @param accessToken : 요청자에게 전달 받은 access 토큰
+     * */
+    public void revokeAccessToken(String accessToken) {
+        AccessTokenClaims claims;
+        try {
+            claims = jwtTokenProvider.parseAccessToken(accessToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+        // jti 도입 전에 발급된 토큰은 개별 폐기 불가, 만료까지 유지
+        if (claims.jti() == null) {
+            return;
+        }
+
+        try {
+            tokenRevocationService.revokeToken(claims.jti(), claims.expiresAtMs());
+        } catch (Exception e) {
+            log.error("Access 토큰 폐기 실패. UserId: {}", claims.userId(), e);
+        }
+    }
+
+    /**
+     * 사용자의 모든 Access 토큰과 리프레시 세션을 폐기하는 메서드 (탈퇴)
+     * @param userId : 대상 사용자
+     * */
+    public void revokeAllTokens(String userId) {
+        try {
+            tokenRevocationService.revokeUser(userId);
+            refreshSessionStore.deleteAll(userId);
+        } catch (Exception e) {
+            log.error("사용자 토큰 폐기 실패. UserId: {}", userId, e);
+        }
+    }
+
     /**
      * 이메일 중복확인 메서드
+     * Bloom 필터에 없으면 확실히 사용 가능하므로 DB를 조회하지 않음
      * */
     public void checkDuplicatedEmail(CheckEmailRequest request){
+        if (!signUpAvailabilityFilter.mightContainEmail(request.email())) {
+            return;
+        }
         boolean isDuplicated = authRepository.existsByEmail(request.email());
         if(isDuplicated) {
             throw new EmailAlreadyExistsException(ErrorCode.RESOURCE_CONFLICT);
@@ -187,8 +245,13 @@ public class AuthService {
 
     /**
      * 닉네임 중복 확인 메서드
+     * Bloom 필터에 없으면 확실히 사용 가능하므로 DB를 조회하지 않음
+     * 전파를 놓친 인스턴스는 사용 중인 값을 가능하다고 답할 수 있으므로 가입/수정 시 DB와 유니크 제약으로 다시 확인
      * */
     public void checkDuplicatedNickname(CheckNicknameRequest request){
+        if (!signUpAvailabilityFilter.mightContainNickname(request.nickname())) {
+            return;
+        }
         boolean isDuplicated = userRepository.existsByNickname(request.nickname());
         if(isDuplicated) {
             throw new NicknameAlreadyExistsException(ErrorCode.RESOURCE_CONFLICT);
@@ -199,11 +262,11 @@ public class AuthService {
      * 디비에 저장된 비밀번호와 확인하는 메서드
      * */
     public void checkPassword(User user, String password){
-        Auth auth = authRepository.findByUserAndProvider(user, ProviderType.LOCAL)
+        Auth auth = authRepository.findByUserIdAndProvider(user.getId(), ProviderType.LOCAL)
                 .orElseThrow(() -> new AuthNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
 
         String E_PASSWORD = auth.getPasswordHash();
-        boolean passwordMatches = passwordEncoder.matches(password, E_PASSWORD);
+        boolean passwordMatches = passwordHashingExecutor.matches(password, E_PASSWORD);
         if (!passwordMatches) {
             throw new InvalidPasswordException(ErrorCode.RESOURCE_CONFLICT);
         }
@@ -212,20 +275,23 @@ public class AuthService {
     //TODO 전에 사용한적 있는 비번 방지
     /**
      * 비밀번호를 수정하는 메서드
+     * 해싱을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 전에 해싱
      * */
-    @Transactional
     public void updatePassword(User user, PasswordUpdateRequest request){
-        Auth auth = authRepository.findByUserAndProvider(user, ProviderType.LOCAL)
-                .orElseThrow(() -> new AuthNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
+        String passwordHash = passwordHashingExecutor.encode(request.password());
 
-        auth.setPasswordHash(passwordEncoder.encode(request.password()));
+        transactionTemplate.executeWithoutResult(status -> {
+            Auth auth = authRepository.findByUserIdAndProvider(user.getId(), ProviderType.LOCAL)
+                    .orElseThrow(() -> new AuthNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
+            auth.setPasswordHash(passwordHash);
+        });
     }
 
     /**
-     * 토큰에서 유저 아이디를 가져오는 메서드
+     * 리프레시 토큰을 검증하고 클레임을 가져오는 메서드
      * */
     //TODO 모든 에러가 결국 같은것을 던져서 뭔지 알아 보기가 어렵다. 수정 필요
-    private String getUserIdFromToken(String token){
+    private Claims parseRefreshToken(String token){
         Claims claims;
         //토큰 자체 유효성 검사
         try {
@@ -239,13 +305,10 @@ public class AuthService {
             throw new InvalidTokenException(ErrorCode.UNAUTHORIZED);
         }
 
-        return claims.getSubject();
-    }
-
-    @Transactional(readOnly = true)
-    public String getEmailFromUserId(String Id){
-        return authRepository.findByUserId(Id)
-                .map(Auth::getEmail)
-                .orElseThrow(() -> new UserNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
+        // Access 토큰이나 세션 id가 없는 토큰은 거절
+        if (!"refresh".equals(claims.get("typ", String.class)) || claims.getId() == null) {
+            throw new InvalidTokenException(ErrorCode.UNAUTHORIZED);
+        }
+        return claims;
     }
 }
\ No newline at end of file
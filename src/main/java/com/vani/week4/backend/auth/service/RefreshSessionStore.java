@@ -0,0 +1,93 @@
+package com.vani.week4.backend.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 리프레시 토큰 세션 저장소
+ * 사용자별 Hash(auth:sessions:{userId})에 토큰 id(jti) -> 만료 시각(ms)으로 저장해서 여러 기기 로그인 유지
+ * Hash 필드는 개별 만료가 없으므로 만료된 필드는 RefreshSessionCleanupScheduler가 정리
+ * 키 자체에는 마지막 저장 기준 리프레시 토큰 수명만큼 TTL을 걸어 활동 없는 사용자의 키는 자동 삭제
+ * @author vani
+ * @since 10/17/26
+ */
+@Slf4j
+@Component
+public class RefreshSessionStore {
+    public static final String SESSION_KEY_PREFIX = "auth:sessions:";
+    // 사용자당 유지할 최대 기기 수
+    private static final int MAX_SESSIONS_PER_USER = 10;
+
+    private static final RedisScript<Long> SAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/refresh-session-save.lua"), Long.class);
+    private static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/refresh-session-rotate.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long refreshExpirationMs;
+
+    public RefreshSessionStore(
+            @Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate,
+            @Value("${jwt.refresh-expiration-ms}") long refreshExpirationMs
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.refreshExpirationMs = refreshExpirationMs;
+    }
+
+    public static String sessionKey(String userId) {
+        return SESSION_KEY_PREFIX + userId;
+    }
+
+    /**
+     * 새 세션 저장, 한도를 넘으면 가장 먼저 만료되는 세션을 제거
+     */
+    public void save(String userId, String jti) {
+        redisTemplate.execute(
+                SAVE_SCRIPT,
+                List.of(sessionKey(userId)),
+                jti,
+                String.valueOf(System.currentTimeMillis() + refreshExpirationMs),
+                String.valueOf(refreshExpirationMs),
+                String.valueOf(MAX_SESSIONS_PER_USER)
+        );
+    }
+
+    /**
+     * 기존 세션을 새 세션으로 교체하는 메서드, 확인과 교체를 한번에 원자적으로 실행
+     * @return 기존 세션이 없거나 만료되었다면 false
+     */
+    public boolean rotate(String userId, String oldJti, String newJti) {
+        Long result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(sessionKey(userId)),
+                oldJti,
+                newJti,
+                String.valueOf(System.currentTimeMillis() + refreshExpirationMs),
+                String.valueOf(refreshExpirationMs)
+        );
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 세션 하나를 삭제 (로그아웃)
+     * @return 삭제된 세션이 있으면 true
+     */
+    public boolean delete(String userId, String jti) {
+        Long deleted = redisTemplate.opsForHash().delete(sessionKey(userId), jti);
+        return deleted != null && deleted > 0;
+    }
+
+    /**
+     * 사용자의 모든 세션 삭제
+     */
+    public void deleteAll(String userId) {
+        redisTemplate.delete(sessionKey(userId));
+    }
+}
@@ -0,0 +1,156 @@
+package com.vani.week4.backend.auth.service;
+
+import com.vani.week4.backend.global.util.RebuildableBloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * 회원가입 폼의 이메일/닉네임 중복 확인을 DB 조회 없이 걸러내기 위한 Bloom 필터
+ * 필터에 없으면 확실히 사용 가능한 값이므로 바로 응답하고, 필터에 있을 때만 DB로 확인
+ * <ul>
+ *     <li>시작할 때 user_auths.email, users.nickname을 PK 순으로 청크 단위로 읽어서 생성</li>
+ *     <li>가입, 닉네임 변경 시 추가하고 Pub/Sub으로 다른 인스턴스에 전파</li>
+ *     <li>탈퇴, 변경으로 사라진 값은 매일 새로 만들 때 정리</li>
+ * </ul>
+ * DB 콜레이션은 대소문자와 악센트를 구분하지 않으므로 같은 값으로 취급될 수 있는 문자열은 같은 키로 정규화
+ * @author vani
+ * @since 10/17/26
+ */
+@Slf4j
+@Component
+public class SignUpAvailabilityFilter implements MessageListener {
+    public static final String CHANNEL = "auth:signup-values";
+    private static final String EMAIL_PREFIX = "email:";
+    private static final String NICKNAME_PREFIX = "nickname:";
+
+    private static final long MIN_EXPECTED_VALUES = 200_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int CHUNK_SIZE = 5000;
+
+    private static final String COUNT_SQL =
+            "SELECT (SELECT COUNT(*) FROM user_auths) + (SELECT COUNT(*) FROM users)";
+    private static final String SELECT_EMAILS_SQL =
+            "SELECT id, email FROM user_auths WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_NICKNAMES_SQL =
+            "SELECT id, nickname FROM users WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RebuildableBloomFilter values =
+            new RebuildableBloomFilter(MIN_EXPECTED_VALUES, FALSE_POSITIVE_RATE);
+
+    public SignUpAvailabilityFilter(
+            JdbcTemplate jdbcTemplate,
+            @Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 이미 사용 중일 수도 있는 이메일인지 확인
+     * @return false면 확실히 사용 가능, true면 DB로 확인 필요 (필터 준비 전에도 true)
+     */
+    public boolean mightContainEmail(String email) {
+        return !values.isReady() || values.mightContain(EMAIL_PREFIX + normalize(email));
+    }
+
+    /**
+     * 이미 사용 중일 수도 있는 닉네임인지 확인
+     * @return false면 확실히 사용 가능, true면 DB로 확인 필요 (필터 준비 전에도 true)
+     */
+    public boolean mightContainNickname(String nickname) {
+        return !values.isReady() || values.mightContain(NICKNAME_PREFIX + normalize(nickname));
+    }
+
+    public void addEmail(String email) {
+        publish(EMAIL_PREFIX + normalize(email));
+    }
+
+    public void addNickname(String nickname) {
+        publish(NICKNAME_PREFIX + normalize(nickname));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        values.put(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 로컬에 먼저 넣고 전파, 전파에 실패한 값은 다른 인스턴스에서 매일 재생성할 때 반영
+    private void publish(String entry) {
+        values.put(entry);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, entry);
+        } catch (Exception e) {
+            log.error("중복 확인 필터 전파 실패 - entry: {}", entry, e);
+        }
+    }
+
+    // 전체 테이블을 읽으므로 준비 완료를 늦추지 않게 별도 스레드에서 생성, 그동안은 항상 DB로 확인
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Thread.ofVirtual().name("signup-filter-init").start(this::rebuild);
+    }
+
+    /**
+     * DB 기준으로 필터를 새로 만들어 교체
+     */
+    @Scheduled(cron = "0 0 5 * * *") // 매일 새벽 5시, 인스턴스마다 자신의 필터를 갱신
+    public void rebuild() {
+        try {
+            Long size = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+            values.rebuild(size == null ? 0 : size, sink -> {
+                load(sink, SELECT_EMAILS_SQL, "email", EMAIL_PREFIX);
+                load(sink, SELECT_NICKNAMES_SQL, "nickname", NICKNAME_PREFIX);
+            });
+            log.info("중복 확인 필터 생성 완료 : 항목 수: {}", size);
+        } catch (Exception e) {
+            log.error("중복 확인 필터 생성 실패, 준비될 때까지 DB로 확인", e);
+        }
+    }
+
+    // 전체를 한번에 메모리에 올리지 않도록 PK 기준으로 청크 단위로 읽음
+    private void load(Consumer<String> sink, String sql, String column, String prefix) {
+        String lastId = "";
+        while (true) {
+            List<String> ids = new ArrayList<>(CHUNK_SIZE);
+            jdbcTemplate.query(sql, rs -> {
+                ids.add(rs.getString("id"));
+                String value = rs.getString(column);
+                if (value != null) {
+                    sink.accept(prefix + normalize(value));
+                }
+            }, lastId, CHUNK_SIZE);
+
+            if (ids.size() < CHUNK_SIZE) {
+                return;
+            }
+            lastId = ids.getLast();
+        }
+    }
+
+    // 대소문자, 악센트, 앞뒤 공백 차이를 없앰 (더 많이 합쳐지는 것은 오탐만 늘 뿐 안전)
+    private static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+        return decomposed.replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -34,13 +35,13 @@ public interface CommentRepository extends JpaRepository<Comment,String> {
             Pageable pageable
             );
 
-    // 동일 CommentGroup의 댓글 모음 가져오기
+    // 한 페이지에 포함된 CommentGroup들의 댓글 모음을 IN 쿼리 한번으로 가져오기
     // commentGroup이 루트댓글들의 아이디이므로 루트댓글을 제외한 글들을 가져옴
     // 최근에 달릴수록 최초 댓글에서 멀리 있으니까 오름차순(오래된순) 정렬
     @Query( "SELECT c FROM Comment c " +
             "JOIN FETCH c.user " +
-            "WHERE c.commentGroup = :commentGroup " +
-            "AND c.id != :commentGroup " +
-            "ORDER BY c.createdAt ASC")
-    List<Comment> findRepliesByCommentGroup(@Param("commentGroup") String commentGroup);
+            "WHERE c.commentGroup IN :commentGroups " +
+            "AND c.id != c.commentGroup " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRepliesByCommentGroupIn(@Param("commentGroups") Collection<String> commentGroups);
 }
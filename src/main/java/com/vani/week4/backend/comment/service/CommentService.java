@@ -13,6 +13,7 @@ import com.vani.week4.backend.global.exception.*;
 import com.vani.week4.backend.infra.S3.S3Service;
 import com.vani.week4.backend.post.entity.Post;
 import com.vani.week4.backend.post.repository.PostRepository;
+import com.vani.week4.backend.post.service.PostDetailCache;
 import com.vani.week4.backend.user.entity.User;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -39,27 +40,34 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final S3Service s3Service;
+    private final PostDetailCache postDetailCache;
 
     /**
      * 댓글 조회 메서드,커서 기반 페이징
+     * readOnly 트랜잭션이므로 replica에서 조회
      * */
+    @Transactional(readOnly = true)
     public SliceResponse<CommentResponse> getComments(
             String postId,
             String cursorId,
             LocalDateTime cursorCreatedAt,
             int size ) {
 
-        postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException(ErrorCode.RESOURCE_NOT_FOUND);
+        }
 
         //정렬된 최상위(최신 작성, id큰 순) 댓글들 가져오기
         Pageable pageable = PageRequest.of(0, size);
         Slice<Comment> topLevelComments = commentRepository.findTopLevelComments(postId, cursorCreatedAt, cursorId, pageable);
 
+        // 페이지에 포함된 모든 그룹의 대댓글을 한번에 가져와 부모 아이디별로 묶기
+        Map<String, List<Comment>> repliesByParentId = findRepliesByParentId(topLevelComments.getContent());
+
         // 슬라이스에서 리스트 꺼내고 리스트를 스트림으로 변환해서(함수형연산 가능하게)
         // toCommentWithReplies로 CommentResponse로 변환후 다시 리스트로 변환
         List<CommentResponse> responses = topLevelComments.getContent().stream()
-                .map(this::toCommentWithReplies)
+                .map(comment -> toCommentWithReplies(comment, repliesByParentId))
                 .toList();
 
         // 다음 커서 생성, 더보기 버튼
@@ -76,18 +84,46 @@ public class CommentService {
         return new SliceResponse<CommentResponse>(responses, nextCursor, topLevelComments.hasNext());
     }
 
+    /**
+     * 루트 댓글들의 CommentGroup으로 대댓글을 IN 쿼리 한번에 조회하고 부모 아이디 기준으로 묶는 메서드
+     * @param topLevelComments : 현재 페이지의 루트 댓글들
+     * @return 부모 댓글 아이디 -> 자식 댓글 리스트(작성순)
+     */
+    private Map<String, List<Comment>> findRepliesByParentId(List<Comment> topLevelComments) {
+        if (topLevelComments.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> commentGroups = topLevelComments.stream()
+                .map(Comment::getCommentGroup)
+                .toList();
+
+        Map<String, List<Comment>> repliesByParentId = new HashMap<>();
+        for (Comment reply : commentRepository.findRepliesByCommentGroupIn(commentGroups)) {
+            if (reply.getParentId() == null) {
+                continue;
+            }
+            repliesByParentId.computeIfAbsent(reply.getParentId(), key -> new ArrayList<>()).add(reply);
+        }
+        return repliesByParentId;
+    }
+
     /**comment 형태의 댓글을 CommentResponse의 형태로 변환하는 메서드,
-     * CommentGroup이용해서 같은 그룹의 댓글들을 불러오고,
-     * 트리구조 형성과 대댓글 리스트, hasmore, replucount를 알맞게 넣어서 반환
-     * @param comment : 쿼리를 통해 가져온 댓글
-     * @return : 같은 그룹내의 트리구조가 형성된 CommentResponse 반환
+     * 미리 조회해 둔 대댓글 맵으로 메모리에서 트리구조를 형성(추가 쿼리 없음)
+     * replyCount는 하위에 달린 모든 대댓글 수
+     * @param comment : 변환할 댓글
+     * @param repliesByParentId : 부모 아이디별 자식 댓글
+     * @return : 트리구조가 형성된 CommentResponse 반환
      */
-    private CommentResponse toCommentWithReplies(Comment comment){
-        //같은 그룹의 댓글들 리스트(최상위 루트댓글 제외)
-        List<Comment> replies =
-                commentRepository.findRepliesByCommentGroup(comment.getCommentGroup());
-        //리스트를 순회해서 트리구조의 CommentResponse형태의 리스트(여기서 최상위 = 실제 대댓글)
-        List<CommentResponse> replyResponses = buildReplyTree(replies);
+    private CommentResponse toCommentWithReplies(Comment comment, Map<String, List<Comment>> repliesByParentId){
+        List<CommentResponse> replyResponses = new ArrayList<>();
+        int replyCount = 0;
+
+        for (Comment reply : repliesByParentId.getOrDefault(comment.getId(), List.of())) {
+            CommentResponse replyResponse = toCommentWithReplies(reply, repliesByParentId);
+            replyResponses.add(replyResponse);
+            replyCount += replyResponse.replyCount() + 1;
+        }
 
         return new CommentResponse(
                 comment.getId(),
@@ -99,7 +135,7 @@ public class CommentService {
                 toAuthor(comment.getUser()),
                 replyResponses,
                 false,
-                replies.size()
+                replyCount
         );
     }
 
@@ -119,41 +155,6 @@ public class CommentService {
         );
     }
 
-    /**댓글들을 순회하면서 댓글의 트리구조를 만들어주는 메서드
-     *
-     * @param replies : CommentGroup이 동일한 댓글들 리스트(루트제외)
-     * @return firstLevelReplies : 트리구조를 가진 최상위 대댓글 리스트
-     */
-    private List<CommentResponse> buildReplyTree(List<Comment> replies){
-        Map<String, CommentResponse> commentMap = new HashMap<>();
-        List<CommentResponse> firstLevelReplies = new ArrayList<>();
-
-        //가져온 댓글들을 CommentResponse로 변환
-        for (Comment reply : replies){
-            CommentResponse response = toCommentWithReplies(reply);
-            commentMap.put(reply.getId(), response);
-        }
-
-        //트리구조 형성
-        for (Comment reply : replies){
-            CommentResponse response = commentMap.get(reply.getId());
-            if (reply.getDepth() == 1) {
-                //최상위 대댓글
-                firstLevelReplies.add(response);
-            } else if (reply.getDepth() > 1) {
-                //2이상의 깊이는 부모의 replies에 추가
-                //replies : CommentResponse의 필드
-                String parentId = reply.getParentId();
-                CommentResponse parent = commentMap.get(parentId);
-                if (parent != null) {
-                    parent.replies().add(response);
-                }
-            }
-        }
-
-        return firstLevelReplies;
-    }
-
     /**
      * 댓글 생성 메서드
      */
@@ -196,8 +197,10 @@ public class CommentService {
                 .build();
 
         commentRepository.save(comment);
-        //TODO Count로직 개선하기
-        post.incrementCommentCount();
+        // 원자적 UPDATE로 증가, 게시글 행 잠금을 트랜잭션 마지막에 잡도록 가장 마지막에 실행
+        postRepository.addCommentCount(post.getId(), 1);
+        // 상세 캐시의 댓글 수 갱신
+        postDetailCache.evict(post.getId());
 
         return toCommentResponse(comment);
     }
@@ -261,7 +264,8 @@ public class CommentService {
             throw new UnauthorizedException(ErrorCode.UNAUTHORIZED);
         }
         commentRepository.delete(comment);
-        post.decreaseCommentCount();
+        postRepository.addCommentCount(post.getId(), -1);
+        postDetailCache.evict(post.getId());
     }
 
 }
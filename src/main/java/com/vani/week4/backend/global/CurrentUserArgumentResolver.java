@@ -1,8 +1,7 @@
 package com.vani.week4.backend.global;
 
-import com.vani.week4.backend.user.entity.User;
-import com.vani.week4.backend.user.repository.UserRepository;
-import com.vani.week4.backend.user.service.UserService;
+import com.vani.week4.backend.user.dto.UserSnapshot;
+import com.vani.week4.backend.user.service.UserSnapshotCache;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
@@ -12,13 +11,13 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
-import java.util.Optional;
-
 /**
  * @CurrentUser 어노테이션이 붙은 파라미터에 인증된 사용자 정보를 주입하는 ArgumentResolver
  *
  * <p>Spring 필터에서 설정한 authenticatedUserId 속성을 기반으로
- *  실제 User 엔티티를 조회하여 컨트롤러 메서드에 전달합니다.</p>
+ *  캐시된 사용자 정보를 User로 만들어 컨트롤러 메서드에 전달합니다.
+ *  전달되는 User는 준영속 상태이므로 수정이 필요하면 서비스에서 다시 조회해야 합니다.
+ *  파라미터 타입이 String이면 사용자 ID만 전달합니다.</p>
  *
  * @author vani
  * @since 10/28/25
@@ -26,7 +25,7 @@ import java.util.Optional;
 @Component
 @RequiredArgsConstructor
 public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
-    private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
     /**
      * 리솔버를 적용할 파라메터인지 겁사하는 메서드
@@ -40,14 +39,14 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
     }
 
     /**
-     * 인증된 사용자 ID로 User엔티티를 조회하여 반환하는 메서드
+     * 인증된 사용자 ID로 사용자 정보를 찾아 반환하는 메서드
      * 파라미터에 실제 어떤 값을 넣어줄지 결정
      *
      * @param parameter : 메서드 파라미터 정보
      * @param mavContainer : ModelAndView 컨테이너
      * @param webRequest ; 현재 웹 요청
      * @param binderFactory : 데이터 바인더 팩토리
-     * @return 조회된 User 엔티티, 인증되지 않았거나 사용자를 찾을 수 없으면 null
+     * @return 사용자 ID 또는 User, 인증되지 않았거나 사용자를 찾을 수 없으면 null
      * */
     //
     @Override
@@ -65,7 +64,12 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
             return null;        //인증 안되었으면
         }
 
-        Optional<User> user = userRepository.findById(userId);
-        return user.orElse(null);
+        // ID만 필요한 경우 조회하지 않음
+        if (parameter.getParameterType() == String.class) {
+            return userId;
+        }
+
+        UserSnapshot snapshot = userSnapshotCache.get(userId);
+        return snapshot == null ? null : snapshot.toUser();
     }
 }
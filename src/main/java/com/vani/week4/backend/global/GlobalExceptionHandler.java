@@ -143,6 +143,17 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, code.getStatus());
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(TooManyRequestsException ex){
+        ErrorCode code = ex.getErrorCode();
+
+        ErrorResponse response = new ErrorResponse(code.getCode(), ex.getMessage());
+
+        log.warn("요청 과다로 거절 : code={}, msg={}", code.getMessage(), ex.getMessage());
+
+        return new ResponseEntity<>(response, code.getStatus());
+    }
+
     @ExceptionHandler(UnauthorizedException.class)
     public ResponseEntity<ErrorResponse> handleUnauthorized(UnauthorizedException ex){
         ErrorCode code = ex.getErrorCode();
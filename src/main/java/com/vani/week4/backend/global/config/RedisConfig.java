@@ -8,6 +8,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericToStringSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -61,12 +62,23 @@ public class RedisConfig {
         template.setKeySerializer(serializer);
         template.setValueSerializer(serializer);
         template.setHashKeySerializer(serializer);
-        template.setValueSerializer(serializer);
+        template.setHashValueSerializer(serializer);
 
         template.afterPropertiesSet();
         return template;
     }
 
+    /**
+     * 인스턴스 간 로컬 캐시/필터 갱신을 전파하기 위한 Pub/Sub 리스너 컨테이너
+     * 토큰용 연결(DB 0)을 사용, Pub/Sub 채널은 DB 번호와 무관
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisTokenConnectionFactory());
+        return container;
+    }
+
     //좋아요를 위한 레디스 탬플릿
     @Bean(name = "likesRedisTemplate")
     public RedisTemplate<String, Object> likesRedisTemplate() {
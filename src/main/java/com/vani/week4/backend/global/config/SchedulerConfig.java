@@ -1,11 +1,18 @@
 package com.vani.week4.backend.global.config;
 
+import com.vani.week4.backend.global.lock.ClusterJobLock;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.UUID;
+
 /**
  * @author vani
  * @since 10/15/25
@@ -22,4 +29,25 @@ public class SchedulerConfig {
         taskScheduler.initialize();
         return taskScheduler;
     }
+
+    /**
+     * ALB 뒤의 여러 인스턴스가 같은 스케쥴 작업을 중복 실행하지 않도록 하는 Redis 잠금
+     * 공유 데이터를 다루는 작업(좋아요 동기화 등)은 이 잠금으로 감싸서 한 인스턴스에서만 실행
+     * 인스턴스 로컬 상태를 반영하는 작업(조회수 반영 등)은 감싸지 않음
+     */
+    @Bean
+    public ClusterJobLock clusterJobLock(@Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate) {
+        return new ClusterJobLock(redisTemplate, resolveInstanceId());
+    }
+
+    // 로그에서 어느 인스턴스가 잠금을 잡았는지 알 수 있도록 호스트명 포함
+    private String resolveInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
 }
@@ -1,12 +1,13 @@
 package com.vani.week4.backend.global.config;
-import com.vani.week4.backend.auth.security.JwtAuthenticationFilter;
-import lombok.RequiredArgsConstructor;
+import com.vani.week4.backend.auth.security.PublicPathMatcher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.List;
+
 
 /**
  * PasswordEncoder 빈 등록, 필터 사용 설정
@@ -14,10 +15,22 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  * @since 10/13/25
  */
 @Configuration
-@RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    //인증 필터 제외 경로 목록
+    private static final List<String> PUBLIC_PATHS = List.of(
+            "/api/v1/auth/users", "/api/v1/auth/tokens", "/api/v1/auth/nickname", "/api/v1/auth/email",
+            "/api/v1/auth/logout", "/api/v1/auth/refresh", "/terms-of-service", "/privacy-policy",
+            "/health",
+            "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**",
+            "/api/loadtest/**"  // 부하 테스트 API (개발/테스트 환경 전용)
+    );
+
+    // 시작할 때 한번만 만들어 JwtAuthenticationFilter에서 공유
+    @Bean
+    public PublicPathMatcher publicPathMatcher() {
+        return new PublicPathMatcher(PUBLIC_PATHS);
+    }
 
     @Bean
     @Profile("loadtest")
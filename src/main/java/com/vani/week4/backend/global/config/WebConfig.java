@@ -1,9 +1,12 @@
 package com.vani.week4.backend.global.config;
 
 import com.vani.week4.backend.global.CurrentUserArgumentResolver;
+import com.vani.week4.backend.global.datasource.ReadYourWritesInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
@@ -19,10 +22,17 @@ import java.util.List;
 public class WebConfig implements WebMvcConfigurer {
 
     private final CurrentUserArgumentResolver currentUserArgumentResolver;
+    // read replica를 설정한 경우에만 존재
+    private final ObjectProvider<ReadYourWritesInterceptor> readYourWritesInterceptor;
 
     // Argument Resolver에 @CurrentUser 추가
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(currentUserArgumentResolver);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        readYourWritesInterceptor.ifAvailable(registry::addInterceptor);
+    }
 }
\ No newline at end of file
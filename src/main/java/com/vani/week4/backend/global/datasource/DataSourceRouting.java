@@ -0,0 +1,45 @@
+package com.vani.week4.backend.global.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 조회를 primary로 고정할지 표시하는 ThreadLocal
+ * <ul>
+ *     <li>본인이 방금 쓴 데이터를 다시 읽는 요청 (ReadYourWritesInterceptor)</li>
+ *     <li>여러 사용자가 공유하는 캐시를 채우는 로드, 복제 지연된 값이 캐시 TTL 동안 남지 않도록</li>
+ * </ul>
+ * @author vani
+ * @since 10/17/26
+ */
+public final class DataSourceRouting {
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private DataSourceRouting() {}
+
+    public static void pinPrimary() {
+        PRIMARY_PINNED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        PRIMARY_PINNED.remove();
+    }
+
+    public static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    /**
+     * 안에서 시작하는 트랜잭션의 조회를 primary로 보냄, 끝나면 이전 상태로 되돌림
+     */
+    public static <T> T callOnPrimary(Supplier<T> supplier) {
+        boolean pinned = isPrimaryPinned();
+        pinPrimary();
+        try {
+            return supplier.get();
+        } finally {
+            if (!pinned) {
+                clear();
+            }
+        }
+    }
+}
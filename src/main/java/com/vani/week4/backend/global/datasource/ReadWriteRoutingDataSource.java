@@ -0,0 +1,29 @@
+package com.vani.week4.backend.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 replica로, 나머지는 primary로 보내는 DataSource
+ * 트랜잭션 밖의 실행(JdbcTemplate 단건 실행, OSIV 지연 로딩)은 쓰기일 수 있으므로 primary
+ * 트랜잭션 시작 시점에는 readOnly 표시가 아직 없으므로 LazyConnectionDataSourceProxy로 감싸서
+ * 첫 쿼리 때 커넥션을 고르도록 해야 함
+ * @author vani
+ * @since 10/17/26
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (DataSourceRouting.isPrimaryPinned()) {
+            return PRIMARY;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,78 @@
+package com.vani.week4.backend.global.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * 쓰기 요청 직후 잠깐 동안 같은 클라이언트의 조회를 primary로 보내는 인터셉터
+ * 쓰기 요청에 만료 시각을 담은 쿠키를 내려주고, 쿠키가 유효한 동안의 요청은 primary를 사용
+ * 복제 지연 때문에 방금 쓴 글, 댓글, 프로필 수정이 안 보이는 문제를 막기 위함
+ * @author vani
+ * @since 10/17/26
+ */
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+    public static final String PIN_COOKIE = "db_pin";
+
+    private final Duration window;
+
+    public ReadYourWritesInterceptor(Duration window) {
+        this.window = window;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isWrite(request)) {
+            long pinnedUntil = System.currentTimeMillis() + window.toMillis();
+            ResponseCookie cookie = ResponseCookie.from(PIN_COOKIE, String.valueOf(pinnedUntil))
+                    .path("/")
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .maxAge(window)
+                    .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+            DataSourceRouting.pinPrimary();
+        } else if (isPinned(request)) {
+            DataSourceRouting.pinPrimary();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        DataSourceRouting.clear();
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !HttpMethod.GET.matches(method)
+                && !HttpMethod.HEAD.matches(method)
+                && !HttpMethod.OPTIONS.matches(method);
+    }
+
+    private boolean isPinned(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (PIN_COOKIE.equals(cookie.getName())) {
+                try {
+                    // 서버가 내려준 값은 지금 + window를 넘을 수 없으므로, 그보다 먼 값은 조작된 쿠키로 보고 무시
+                    long pinnedUntil = Long.parseLong(cookie.getValue());
+                    long now = System.currentTimeMillis();
+                    return pinnedUntil > now && pinnedUntil <= now + window.toMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,18 @@
+package com.vani.week4.backend.global.exception;
+
+import com.vani.week4.backend.global.ErrorCode;
+import lombok.Getter;
+
+/**
+ * @author vani
+ * @since 10/17/26
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException{
+    private final ErrorCode errorCode;
+
+    public TooManyRequestsException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+}
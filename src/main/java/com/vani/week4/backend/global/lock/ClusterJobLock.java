@@ -0,0 +1,122 @@
+package com.vani.week4.backend.global.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 여러 인스턴스 중 하나에서만 스케쥴 작업을 실행하기 위한 Redis 임대(lease) 잠금
+ * SET NX PX 로 잠금을 잡은 인스턴스만 작업을 실행하고, 끝나면 자신의 토큰일 때만 해제
+ * <ul>
+ *     <li>lockAtMostFor : 임대 기간, 작업이 도는 동안 1/3 주기로 연장하므로 작업이 길어져도 잠금이 풀리지 않고,
+ *     인스턴스가 죽으면 연장이 멈춰 이 시간이 지나면 잠금이 풀림</li>
+ *     <li>lockAtLeastFor : 작업이 빨리 끝나도 이 시간 동안은 잠금 유지,
+ *     인스턴스 간 시계 차이로 같은 주기를 다른 인스턴스가 다시 실행하는 것을 막음</li>
+ * </ul>
+ * @author vani
+ * @since 10/17/26
+ */
+@Slf4j
+public class ClusterJobLock {
+    private static final String LOCK_KEY_PREFIX = "scheduler:lock:";
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/scheduler-lock-release.lua"), Long.class);
+    private static final RedisScript<Long> RENEW_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/scheduler-lock-renew.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String instanceId;
+    // 잠금 연장 전용 스레드, 작업 스레드가 오래 걸려도 연장은 제때 실행
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cluster-job-lock-renewer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ClusterJobLock(RedisTemplate<String, String> redisTemplate, String instanceId) {
+        this.redisTemplate = redisTemplate;
+        this.instanceId = instanceId;
+    }
+
+    /**
+     * 잠금을 얻은 경우에만 작업을 실행하는 메서드
+     * @param jobName : 작업 이름, 잠금 키로 사용
+     * @param lockAtMostFor : 잠금 최대 유지 시간(작업 최대 실행 시간보다 길게)
+     * @param lockAtLeastFor : 잠금 최소 유지 시간
+     * @param job : 실행할 작업
+     * @return 이 인스턴스에서 실행했으면 true
+     */
+    public boolean runExclusively(String jobName, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable job) {
+        String key = LOCK_KEY_PREFIX + jobName;
+        String token = instanceId + ":" + UUID.randomUUID();
+
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(key, token, lockAtMostFor);
+        } catch (Exception e) {
+            log.error("스케쥴러 잠금 획득 실패, 이번 주기는 건너뜀 - job: {}", jobName, e);
+            return false;
+        }
+
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("다른 인스턴스가 실행 중 - job: {}", jobName);
+            return false;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long renewIntervalMs = Math.max(1, lockAtMostFor.toMillis() / 3);
+        AtomicBoolean released = new AtomicBoolean(false);
+        ScheduledFuture<?> renewal = renewer.scheduleAtFixedRate(
+                () -> renew(jobName, key, token, lockAtMostFor, released),
+                renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS
+        );
+        try {
+            job.run();
+        } finally {
+            renewal.cancel(false);
+            long keepMs = Math.max(0, lockAtLeastFor.toMillis() - (System.currentTimeMillis() - startedAt));
+            // 진행 중인 연장이 해제 뒤에 만료 시간을 다시 늘리지 않도록 연장과 해제를 같은 잠금으로 직렬화
+            synchronized (released) {
+                released.set(true);
+                try {
+                    redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token, String.valueOf(keepMs));
+                } catch (Exception e) {
+                    log.error("스케쥴러 잠금 해제 실패, 만료를 기다림 - job: {}", jobName, e);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void renew(String jobName, String key, String token, Duration lockAtMostFor, AtomicBoolean released) {
+        synchronized (released) {
+            if (released.get()) {
+                return;
+            }
+            try {
+                Long renewed = redisTemplate.execute(
+                        RENEW_SCRIPT, List.of(key), token, String.valueOf(lockAtMostFor.toMillis()));
+                if (renewed == null || renewed == 0L) {
+                    log.error("스케쥴러 잠금을 잃음, 다른 인스턴스가 같은 작업을 실행할 수 있음 - job: {}", jobName);
+                }
+            } catch (Exception e) {
+                // 다음 주기에 다시 시도, 임대 기간 안에 한번만 성공하면 잠금 유지
+                log.warn("스케쥴러 잠금 연장 실패 - job: {}", jobName, e);
+            }
+        }
+    }
+
+    public void shutdown() {
+        renewer.shutdownNow();
+    }
+}
@@ -0,0 +1,31 @@
+package com.vani.week4.backend.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 후에 실행할 작업 등록
+ * 캐시 무효화, 외부 시스템(Redis) 반영처럼 롤백되면 안 되거나 커밋 전에 하면 옛 값이 다시 채워지는 작업에 사용
+ * @author vani
+ * @since 10/17/26
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {}
+
+    /**
+     * 트랜잭션 안이면 커밋 후에, 아니면 바로 실행 (롤백되면 실행하지 않음)
+     */
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
@@ -0,0 +1,93 @@
+package com.vani.week4.backend.global.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom 필터
+ * "확실히 없음"을 메모리에서 바로 판단하기 위해 사용, true는 "있을 수도 있음"이므로 원본 저장소로 다시 확인해야 함
+ * 값 추가는 여러 스레드에서 동시에 해도 안전하고, 삭제는 지원하지 않음 (주기적으로 새로 만들어 교체)
+ * @author vani
+ * @since 10/17/26
+ */
+public class BloomFilter {
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    private BloomFilter(long bitSize, int hashCount) {
+        int wordCount = (int) ((bitSize + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitSize = (long) wordCount * 64;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 원소 수와 목표 오탐률로 크기를 정해서 생성
+     * @param expectedInsertions : 예상 원소 수
+     * @param falsePositiveRate : 목표 오탐률 (0 초과 1 미만)
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        // m = -n ln p / (ln 2)^2, k = m / n * ln 2
+        long bitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        return new BloomFilter(bitSize, hashCount);
+    }
+
+    public void put(String value) {
+        long hash1 = hash(value, 0xcbf29ce484222325L);
+        long hash2 = hash(value, 0x9e3779b97f4a7c15L) | 1; // 홀수로 만들어 같은 위치만 반복되지 않도록
+        for (int i = 0; i < hashCount; i++) {
+            setBit(index(hash1 + i * hash2));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value, 0xcbf29ce484222325L);
+        long hash2 = hash(value, 0x9e3779b97f4a7c15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(hash1 + i * hash2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(long combinedHash) {
+        return Math.floorMod(combinedHash, bitSize);
+    }
+
+    private void setBit(long bit) {
+        int wordIndex = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long current;
+        do {
+            current = words.get(wordIndex);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, current, current | mask));
+    }
+
+    // 시드가 다른 두 해시로 k개의 위치를 만듦 (Kirsch-Mitzenmacher), 문자열을 바이트로 바꾸지 않고 문자 단위로 계산
+    private static long hash(String value, long seed) {
+        long h = seed;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        // murmur3 fmix64
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,60 @@
+package com.vani.week4.backend.global.util;
+
+import java.util.function.Consumer;
+
+/**
+ * 원본 저장소(DB, Redis)를 복제한 로컬 Bloom 필터를 주기적으로 새로 만들어 교체하기 위한 래퍼
+ * 새로 만드는 동안 추가된 값은 기존 필터와 새 필터 모두에 넣어서 교체할 때 빠지지 않도록 함
+ * 첫 번째 빌드가 끝나기 전에는 ready가 false이므로 호출하는 쪽에서 원본 저장소로 확인해야 함
+ * @author vani
+ * @since 10/17/26
+ */
+public class RebuildableBloomFilter {
+    private final long minExpectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+    private volatile boolean ready;
+
+    public RebuildableBloomFilter(long minExpectedInsertions, double falsePositiveRate) {
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.current = BloomFilter.create(minExpectedInsertions, falsePositiveRate);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean mightContain(String value) {
+        return current.mightContain(value);
+    }
+
+    public void put(String value) {
+        // 교체 직전에 새 필터를 놓치지 않도록 만드는 중인 필터를 먼저 읽음
+        BloomFilter next = building;
+        current.put(value);
+        if (next != null) {
+            next.put(value);
+        }
+    }
+
+    /**
+     * 원본 저장소에서 값을 모두 읽어 새 필터를 만들고 교체
+     * 실패하면 기존 필터를 그대로 유지하고 예외를 던짐
+     * @param expectedSize : 현재 원소 수, 증가를 고려해 두 배로 크기를 잡음
+     * @param loader : 받은 Consumer에 값을 하나씩 넣어주는 로더
+     */
+    public synchronized void rebuild(long expectedSize, Consumer<Consumer<String>> loader) {
+        BloomFilter next = BloomFilter.create(Math.max(minExpectedInsertions, expectedSize * 2), falsePositiveRate);
+        building = next;
+        try {
+            loader.accept(next::put);
+            current = next;
+            ready = true;
+        } finally {
+            building = null;
+        }
+    }
+}
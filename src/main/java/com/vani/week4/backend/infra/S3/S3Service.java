@@ -1,12 +1,14 @@
 package com.vani.week4.backend.infra.S3;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.vani.week4.backend.global.ErrorCode;
 import com.vani.week4.backend.global.exception.FileSizeExceedException;
 import com.vani.week4.backend.global.exception.InvalidContentTypeException;
 import com.vani.week4.backend.infra.S3.dto.PresignResponse;
 import com.vani.week4.backend.infra.StorageService;
-import lombok.RequiredArgsConstructor;
-
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -27,16 +29,32 @@ import java.util.UUID;
  */
 //TODO key 구성 결정
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class S3Service implements StorageService {
 
+    private static final Duration PRESIGNED_GET_URL_DURATION = Duration.ofHours(10);
+    // 서명 만료 1시간 전까지만 재사용, 응답으로 나간 URL이 최소 1시간은 유효하도록
+    private static final Duration PRESIGNED_GET_URL_CACHE_TTL = Duration.ofHours(9);
+    private static final long PRESIGNED_GET_URL_CACHE_MAX_SIZE = 50_000;
+
     private final S3Presigner s3Presigner;
+    private final Cache<String, String> presignedGetUrlCache;
     private final long MAX_FILE_SIZE = 5 * 1024 * 1024;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    public S3Service(S3Presigner s3Presigner, MeterRegistry meterRegistry) {
+        this.s3Presigner = s3Presigner;
+        this.presignedGetUrlCache = Caffeine.newBuilder()
+                .maximumSize(PRESIGNED_GET_URL_CACHE_MAX_SIZE)
+                .expireAfterWrite(PRESIGNED_GET_URL_CACHE_TTL)
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions 등으로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, presignedGetUrlCache, "s3.presignedGetUrl");
+    }
+
     /**
      * S3 파일 업로드용 Presigned PUT URL 생성
      * @param userId s3에 저장할 파일 경로 및 이름
@@ -87,10 +105,21 @@ public class S3Service implements StorageService {
 
     /**
      * S3 파일 조회/디운로드용 presigned GET URL 생성하는 메서드
+     * 같은 오브젝트 키는 서명 만료가 가까워지기 전까지 캐시된 URL을 재사용
      * @param objectKey 가져올 파일의 오브젝트 키
-     * @return presignedGetURL
+     * @return presignedGetURL, 키가 없으면 null
      * */
     public String createPresignedGetUrl(String objectKey) {
+        if (objectKey == null || objectKey.isBlank()) {
+            return null;
+        }
+        return presignedGetUrlCache.get(objectKey, this::presignGetUrl);
+    }
+
+    /**
+     * 실제 SigV4 서명을 수행하는 메서드, 캐시 미스일 때만 호출
+     * */
+    private String presignGetUrl(String objectKey) {
 
         // 1. S3에서 어떤 객체를 가져올지 정보 정의
         GetObjectRequest getReq = GetObjectRequest.builder()
@@ -98,9 +127,9 @@ public class S3Service implements StorageService {
                 .key(objectKey)
                 .build();
 
-        //2. Presigned GET 요청 생성(10 분)
+        //2. Presigned GET 요청 생성(10 시간)
         PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(r -> r
-                .signatureDuration(Duration.ofHours(10))
+                .signatureDuration(PRESIGNED_GET_URL_DURATION)
                 .getObjectRequest(getReq)
         );
 
@@ -0,0 +1,121 @@
+package com.vani.week4.backend.interaction.batch;
+
+import com.vani.week4.backend.global.lock.ClusterJobLock;
+import com.vani.week4.backend.interaction.service.LikeRedisKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 토글 모드에서 쌓인 좋아요 변경(like:pending)을 user_post_like 테이블에 일괄 반영하는 스케쥴러
+ * 대기 Hash를 처리용 키로 RENAME 해서 떼어낸 뒤 처리하므로, 처리 중에 들어온 토글은 다음 주기에 반영
+ * 처리에 실패하면 처리용 키를 남겨두고 다음 주기에 먼저 재처리 (INSERT IGNORE / DELETE라 재실행해도 안전)
+ * 두 인스턴스가 같은 처리용 키를 동시에 다루지 않도록 잠금을 얻은 한 곳에서만 실행
+ * @author vani
+ * @since 10/17/26
+ */
+@Slf4j
+@Component
+public class LikeFlushScheduler {
+    private static final String INSERT_SQL = "INSERT IGNORE INTO user_post_like (user_id, post_id) VALUES (?, ?)";
+    private static final String DELETE_SQL = "DELETE FROM user_post_like WHERE user_id = ? AND post_id = ?";
+    private static final int BATCH_SIZE = 1000;
+    private static final String JOB_NAME = "like-flush";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(1);
+
+    private final RedisTemplate<String, Object> likesRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterJobLock clusterJobLock;
+
+    public LikeFlushScheduler(
+            @Qualifier("likesRedisTemplate") RedisTemplate<String, Object> template,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ClusterJobLock clusterJobLock) {
+        this.likesRedisTemplate = template;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.clusterJobLock = clusterJobLock;
+    }
+
+    @Scheduled(fixedDelay = 5_000) // 5초마다 반영
+    public void flushPendingLikes() {
+        // 재실행해도 안전하므로 최소 유지 시간 없이 끝나면 바로 해제
+        clusterJobLock.runExclusively(JOB_NAME, LOCK_AT_MOST_FOR, Duration.ZERO, this::flush);
+    }
+
+    private void flush() {
+        String processingKey = LikeRedisKeys.LIKE_PENDING_PROCESSING_KEY;
+
+        // 이전 주기에 실패한 처리분이 없을 때만 새 대기분을 떼어냄
+        if (!Boolean.TRUE.equals(likesRedisTemplate.hasKey(processingKey))) {
+            if (!Boolean.TRUE.equals(likesRedisTemplate.hasKey(LikeRedisKeys.LIKE_PENDING_KEY))) {
+                return;
+            }
+            likesRedisTemplate.rename(LikeRedisKeys.LIKE_PENDING_KEY, processingKey);
+        }
+
+        // 대기분이 많아도 한번에 읽지 않도록 HSCAN으로 나눠 읽고 청크마다 반영
+        // 중간에 실패하면 처리용 키를 남겨두고 다음 주기에 처음부터 다시 반영 (재실행해도 안전)
+        ScanOptions options = ScanOptions.scanOptions().count(BATCH_SIZE).build();
+        List<Object[]> likes = new ArrayList<>();
+        List<Object[]> unlikes = new ArrayList<>();
+        int applied = 0;
+        try (Cursor<Map.Entry<Object, Object>> cursor = likesRedisTemplate.opsForHash().scan(processingKey, options)) {
+            while (cursor.hasNext()) {
+                Map.Entry<Object, Object> entry = cursor.next();
+                // field = userId:postId
+                String[] ids = entry.getKey().toString().split(":", 2);
+                if (ids.length != 2) {
+                    log.warn("잘못된 좋아요 대기 필드 - field: {}", entry.getKey());
+                    continue;
+                }
+                if ("1".equals(entry.getValue().toString())) {
+                    likes.add(new Object[]{ids[0], ids[1]});
+                } else {
+                    unlikes.add(new Object[]{ids[0], ids[1]});
+                }
+
+                if (likes.size() + unlikes.size() >= BATCH_SIZE) {
+                    applied += apply(likes, unlikes);
+                }
+            }
+            applied += apply(likes, unlikes);
+            likesRedisTemplate.delete(processingKey);
+            log.debug("좋아요 반영 완료 : 반영 수: {}", applied);
+        } catch (Exception e) {
+            log.error("좋아요 반영 실패, 다음 주기에 재시도 - 반영 수: {}", applied, e);
+        }
+    }
+
+    // 청크 하나를 한 트랜잭션으로 반영하고 비움
+    private int apply(List<Object[]> likes, List<Object[]> unlikes) {
+        int size = likes.size() + unlikes.size();
+        if (size == 0) {
+            return 0;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!likes.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, likes);
+            }
+            if (!unlikes.isEmpty()) {
+                jdbcTemplate.batchUpdate(DELETE_SQL, unlikes);
+            }
+        });
+        likes.clear();
+        unlikes.clear();
+        return size;
+    }
+}
@@ -0,0 +1,12 @@
+package com.vani.week4.backend.interaction.dto;
+
+/**
+ * 게시글별 좋아요 수 집계 결과 (GROUP BY post_id)
+ * @author vani
+ * @since 10/17/26
+ */
+public record PostLikeCount(
+        String postId,
+        Long likeCount
+) {
+}
@@ -1,10 +1,16 @@
 package com.vani.week4.backend.interaction.repository;
 
+import com.vani.week4.backend.interaction.dto.PostLikeCount;
 import com.vani.week4.backend.interaction.entity.Like;
 import com.vani.week4.backend.interaction.entity.UserPostLikeId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * @author vani
  * @since 10/15/25
@@ -17,4 +23,17 @@ public interface LikeRepository extends JpaRepository<Like, UserPostLikeId> {
     boolean existsByUserIdAndPostId(String userId, String postId);
 
     int countByUserPostLikeIdPostId(String postId);
+
+    // 여러 게시글의 좋아요 수를 한번의 GROUP BY 쿼리로 집계
+    // 좋아요가 없는 게시글은 결과에 포함되지 않음
+    @Query("SELECT new com.vani.week4.backend.interaction.dto.PostLikeCount(" +
+            "l.userPostLikeId.postId, COUNT(l)) " +
+            "FROM Like l " +
+            "WHERE l.userPostLikeId.postId IN :postIds " +
+            "GROUP BY l.userPostLikeId.postId")
+    List<PostLikeCount> countGroupByPostIds(@Param("postIds") Collection<String> postIds);
+
+    // 게시글에 좋아요한 유저 아이디 목록, Redis 멤버십 Set 로드용
+    @Query("SELECT l.userPostLikeId.userId FROM Like l WHERE l.userPostLikeId.postId = :postId")
+    List<String> findUserIdsByPostId(@Param("postId") String postId);
 }
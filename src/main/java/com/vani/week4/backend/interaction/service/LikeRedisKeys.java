@@ -0,0 +1,39 @@
+package com.vani.week4.backend.interaction.service;
+
+/**
+ * 좋아요 관련 Redis 키 모음 (likesRedisTemplate, DB 1번)
+ * @author vani
+ * @since 10/17/26
+ */
+public final class LikeRedisKeys {
+    // 게시글별 좋아요 수
+    public static final String LIKE_COUNT_KEY_PREFIX = "post:like:";
+    // 좋아요 수 캐시 미스 시 DB COUNT를 한 인스턴스만 실행하도록 잡는 짧은 잠금
+    public static final String LIKE_COUNT_LOCK_KEY_PREFIX = "like:count-lock:";
+    // 게시글별 좋아요한 유저 Set, 로드 여부 표시용 센티널 멤버 포함
+    public static final String LIKE_USERS_KEY_PREFIX = "like:users:";
+    public static final String LIKE_USERS_SENTINEL = "_";
+    // DB 반영 대기중인 좋아요 변경 Hash, field = userId:postId, value = 1(좋아요) / 0(취소)
+    public static final String LIKE_PENDING_KEY = "like:pending";
+    public static final String LIKE_PENDING_PROCESSING_KEY = "like:pending:processing";
+    // 좋아요 수가 바뀌어 posts.like_count 동기화가 필요한 게시글 아이디 Set
+    public static final String LIKE_DIRTY_KEY = "like:dirty";
+
+    private LikeRedisKeys() {}
+
+    public static String likeCountKey(String postId) {
+        return LIKE_COUNT_KEY_PREFIX + postId;
+    }
+
+    public static String likeCountLockKey(String postId) {
+        return LIKE_COUNT_LOCK_KEY_PREFIX + postId;
+    }
+
+    public static String likeUsersKey(String postId) {
+        return LIKE_USERS_KEY_PREFIX + postId;
+    }
+
+    public static String pendingField(String userId, String postId) {
+        return userId + ":" + postId;
+    }
+}
@@ -2,6 +2,8 @@ package com.vani.week4.backend.interaction.service;
 
 import com.vani.week4.backend.global.ErrorCode;
 import com.vani.week4.backend.global.exception.PostNotFoundException;
+import com.vani.week4.backend.global.util.AfterCommit;
+import com.vani.week4.backend.interaction.dto.PostLikeCount;
 import com.vani.week4.backend.interaction.entity.Like;
 import com.vani.week4.backend.interaction.entity.UserPostLikeId;
 import com.vani.week4.backend.interaction.repository.LikeRepository;
@@ -10,43 +12,133 @@ import com.vani.week4.backend.post.repository.PostRepository;
 import com.vani.week4.backend.user.entity.User;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * 좋아요 관련 로직을 처리하는 클래스
- * Redis를 사용하여 좋아요 수를 캐싱, 스케줄러로 DB와 동기화
+ * Redis를 사용하여 좋아요 수를 캐싱, 바뀐 게시글은 like:dirty에 모아 스케줄러로 DB와 동기화
+ * like.redis-toggle.enabled 가 true면 좋아요 여부도 Redis Set에서 관리하고 DB에는 LikeFlushScheduler가 일괄 반영
  * @author vani
  * @since 10/15/25
  */
 @Slf4j
 @Service
 public class LikeService {
-    private static final String LIKE_COUNT_KEY_PREFIX = "post:like:";
+    private static final RedisScript<Long> TOGGLE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/like-toggle.lua"), Long.class);
+    private static final RedisScript<Long> LOAD_USERS_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/like-users-load.lua"), Long.class);
+    private static final RedisScript<Long> CHECK_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/like-check.lua"), Long.class);
+    private static final RedisScript<Long> REMOVE_MEMBER_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/like-remove-member.lua"), Long.class);
+    private static final RedisScript<Long> FILL_COUNT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/like-count-fill.lua"), Long.class);
+    private static final RedisScript<Long> ADD_COUNT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/like-count-add.lua"), Long.class);
+    private static final long NOT_LOADED = -1L;
+    // 좋아요 유저 Set은 마지막 토글/확인 후 하루 동안 유지, 그 뒤에는 다시 DB에서 로드
+    // DB 반영은 LikeFlushScheduler가 수 초 안에 끝내므로 만료 시점에 반영 안 된 토글은 남지 않음
+    private static final Duration LIKE_USERS_TTL = Duration.ofDays(1);
+    private static final Duration COUNT_LOCK_TTL = Duration.ofSeconds(3);
+    private static final Duration DB_COUNT_TTL = Duration.ofMinutes(10);
+    private static final int COUNT_WAIT_ATTEMPTS = 10;
+    private static final long COUNT_WAIT_INTERVAL_MS = 50;
 
     private final LikeRepository likeRepository;
     private final PostRepository postRepository;
     private final RedisTemplate<String, Object> likesRedisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean redisToggleEnabled;
+    // 인스턴스 안에서 같은 게시글의 좋아요 수 로드를 하나로 합침
+    private final ConcurrentMap<String, CompletableFuture<Integer>> countLoads = new ConcurrentHashMap<>();
 
     protected LikeService(
             LikeRepository likeRepository,
             PostRepository postRepository,
-            @Qualifier("likesRedisTemplate")RedisTemplate<String, Object> template
+            @Qualifier("likesRedisTemplate")RedisTemplate<String, Object> template,
+            TransactionTemplate transactionTemplate,
+            @Value("${like.redis-toggle.enabled:false}") boolean redisToggleEnabled
         ) {
         this.likeRepository = likeRepository;
         this.postRepository = postRepository;
         this.likesRedisTemplate = template;
+        this.transactionTemplate = transactionTemplate;
+        this.redisToggleEnabled = redisToggleEnabled;
     }
 
-    //TODO 레디스와 DB 동기화 오류 문제 있음 캐시가 비었을 경우 다시 DB에서 가져와서 쓰는 로직이 없음
     /**
      * 게시글의 좋아요를 토글
      * 이미 좋아요 했다면 취소, 좋아요하지 않았다면 좋아요합니다.
      * 수는 Redis에 캐싱, 스캐줄러를 통해 DB와 동기화
      * */
-    @Transactional
     public void toggleLike(User user, String postId){
+        if (redisToggleEnabled) {
+            toggleLikeInRedis(user.getId(), postId);
+        } else {
+            transactionTemplate.executeWithoutResult(status -> toggleLikeInDatabase(user, postId));
+        }
+    }
+
+    /**
+     * Lua 스크립트 한번으로 멤버십 Set, 좋아요 수, DB 반영 대기 Hash를 원자적으로 변경
+     * Set이 아직 로드되지 않은 게시글만 DB에서 좋아요 목록을 읽어 채운 뒤 다시 시도
+     * */
+    private void toggleLikeInRedis(String userId, String postId) {
+        List<String> keys = List.of(
+                LikeRedisKeys.likeUsersKey(postId),
+                LikeRedisKeys.likeCountKey(postId),
+                LikeRedisKeys.LIKE_PENDING_KEY,
+                LikeRedisKeys.LIKE_DIRTY_KEY
+        );
+        String pendingField = LikeRedisKeys.pendingField(userId, postId);
+
+        long ttlMs = LIKE_USERS_TTL.toMillis();
+        Long liked = likesRedisTemplate.execute(TOGGLE_SCRIPT, keys, userId, pendingField, postId, ttlMs);
+        if (liked != null && liked == NOT_LOADED) {
+            loadLikeUsers(postId);
+            liked = likesRedisTemplate.execute(TOGGLE_SCRIPT, keys, userId, pendingField, postId, ttlMs);
+        }
+        log.debug("좋아요 토글 (Redis) - postId: {}, userId: {}, liked: {}", postId, userId, liked);
+    }
+
+    /**
+     * DB의 좋아요 목록으로 게시글의 멤버십 Set을 채우는 메서드
+     * 존재하지 않는 게시글이면 예외, Set이 만들어진 게시글은 존재가 보장되므로 이후 토글은 DB를 거치지 않음
+     * */
+    private void loadLikeUsers(String postId) {
+        if (!postRepository.existsById(postId)) {
+            throw new PostNotFoundException(ErrorCode.RESOURCE_NOT_FOUND);
+        }
+
+        List<String> userIds = likeRepository.findUserIdsByPostId(postId);
+        Object[] args = new Object[userIds.size() + 2];
+        args[0] = LIKE_USERS_TTL.toMillis();
+        args[1] = LikeRedisKeys.LIKE_USERS_SENTINEL;
+        for (int i = 0; i < userIds.size(); i++) {
+            args[i + 2] = userIds.get(i);
+        }
+        likesRedisTemplate.execute(LOAD_USERS_SCRIPT, List.of(LikeRedisKeys.likeUsersKey(postId)), args);
+    }
+
+    /**
+     * 기존 방식의 토글, DB에 바로 반영하고 Redis 좋아요 수만 증감
+     * Redis는 롤백되지 않으므로 커밋된 뒤에 반영
+     * */
+    private void toggleLikeInDatabase(User user, String postId) {
 
         String userId = user.getId();
 
@@ -56,29 +148,222 @@ public class LikeService {
         //이미 좋아요 했다면 삭제, 안했으면 좋아요
         //레디스에 카운트 캐싱
         //키는 텍스트로 가독성 향상
+        int delta;
         if (likeRepository.existsById(new UserPostLikeId(userId, postId))){
             likeRepository.deleteById(new UserPostLikeId(userId, postId));
-            likesRedisTemplate.opsForValue().decrement(LIKE_COUNT_KEY_PREFIX + postId);
+            delta = -1;
         } else {
             likeRepository.save(new Like(user, post));
-            likesRedisTemplate.opsForValue().increment(LIKE_COUNT_KEY_PREFIX + postId);
+            delta = 1;
+        }
+        AfterCommit.run(() -> applyCommittedToggle(postId, delta));
+    }
+
+    private void applyCommittedToggle(String postId, int delta) {
+        try {
+            addCachedLikeCount(postId, delta);
+            likesRedisTemplate.opsForSet().add(LikeRedisKeys.LIKE_DIRTY_KEY, postId);
+        } catch (Exception e) {
+            log.error("좋아요 수 캐시 반영 실패, 캐시를 지워 DB에서 다시 셈 - postId: {}", postId, e);
+            // 증감이 빠진 값이 남아 DB로 동기화되지 않도록 제거, 다음 조회 때 DB에서 다시 채움
+            try {
+                likesRedisTemplate.delete(LikeRedisKeys.likeCountKey(postId));
+            } catch (Exception deleteFailure) {
+                log.warn("좋아요 수 캐시 제거 실패 - postId: {}", postId, deleteFailure);
+            }
+        }
+    }
+
+    /**
+     * 사용자가 게시글에 좋아요 했는지 확인합니다.
+     * Redis 토글 모드에서는 DB 반영이 비동기이므로 멤버십 Set을 먼저 확인하고, 로드되지 않은 게시글만 DB로 확인
+     * */
+    public boolean isLiked(String userId, String postId) {
+        if (redisToggleEnabled) {
+            Long liked = likesRedisTemplate.execute(
+                    CHECK_SCRIPT,
+                    List.of(LikeRedisKeys.likeUsersKey(postId)),
+                    userId, LIKE_USERS_TTL.toMillis()
+            );
+            if (liked != null && liked != NOT_LOADED) {
+                return liked == 1L;
+            }
         }
+        return likeRepository.existsByUserIdAndPostId(userId, postId);
+    }
+
+    // 캐시된 좋아요 수만 증감, 캐시가 없으면 다음 조회 때 DB에서 셈
+    private void addCachedLikeCount(String postId, int delta) {
+        likesRedisTemplate.execute(ADD_COUNT_SCRIPT, List.of(LikeRedisKeys.likeCountKey(postId)), delta);
     }
 
     /**
      * Redis에서 좋아요수를 조회하고 없다면 DB에서 로드합니다.
+     * 캐시 미스가 몰려도 같은 게시글의 COUNT는 인스턴스 안에서는 진행중인 로드를 공유하고,
+     * 인스턴스 사이에서는 Redis 잠금을 얻은 한 곳에서만 실행합니다.
      */
-    @Transactional
     public Integer getLikeCount(String postId){
+        Object value = likesRedisTemplate.opsForValue().get(LikeRedisKeys.likeCountKey(postId));
+        if (value != null) {
+            return Integer.parseInt(value.toString());
+        }
 
-        String redisKey = LIKE_COUNT_KEY_PREFIX + postId;
-        Object value = likesRedisTemplate.opsForValue().get(redisKey);
-        if (value == null){
-            //DB에서 조회 후 Redis에 캐싱
-            int count = likeRepository.countByUserPostLikeIdPostId(postId);
-            likesRedisTemplate.opsForValue().set(redisKey,count);
+        CompletableFuture<Integer> load = new CompletableFuture<>();
+        CompletableFuture<Integer> inFlight = countLoads.putIfAbsent(postId, load);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            int count = loadLikeCount(postId);
+            load.complete(count);
             return count;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            countLoads.remove(postId, load);
+        }
+    }
+
+    /**
+     * 잠금을 얻으면 DB에서 세어 채우고, 못 얻으면 다른 인스턴스가 채우기를 잠깐 기다림
+     * 기다려도 채워지지 않으면 (잠금을 가진 쪽이 실패했거나 느린 경우) 직접 셈
+     */
+    private int loadLikeCount(String postId) {
+        String countKey = LikeRedisKeys.likeCountKey(postId);
+        String lockKey = LikeRedisKeys.likeCountLockKey(postId);
+
+        boolean locked = Boolean.TRUE.equals(
+                likesRedisTemplate.opsForValue().setIfAbsent(lockKey, "1", COUNT_LOCK_TTL));
+        if (!locked) {
+            Integer filled = waitForLikeCount(countKey);
+            if (filled != null) {
+                return filled;
+            }
+        }
+
+        try {
+            int count = likeRepository.countByUserPostLikeIdPostId(postId);
+            // 세는 동안 토글이 먼저 채운 값이 있으면 그 값을 유지
+            Long cached = likesRedisTemplate.execute(
+                    FILL_COUNT_SCRIPT,
+                    List.of(countKey, LikeRedisKeys.likeUsersKey(postId)),
+                    count, DB_COUNT_TTL.toMillis()
+            );
+            return cached == null ? count : cached.intValue();
+        } finally {
+            if (locked) {
+                likesRedisTemplate.delete(lockKey);
+            }
+        }
+    }
+
+    private Integer waitForLikeCount(String countKey) {
+        for (int i = 0; i < COUNT_WAIT_ATTEMPTS; i++) {
+            try {
+                Thread.sleep(COUNT_WAIT_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            Object value = likesRedisTemplate.opsForValue().get(countKey);
+            if (value != null) {
+                return Integer.parseInt(value.toString());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 여러 게시글의 좋아요 수를 한번에 조회합니다.
+     * Redis MGET 한번으로 조회하고, 캐시에 없는 게시글은 GROUP BY 쿼리 한번으로 집계한 뒤 MSET으로 되돌려 씁니다.
+     * @param postIds : 조회할 게시글 아이디들
+     * @return 게시글 아이디별 좋아요 수
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Integer> getLikeCounts(Collection<String> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> ids = List.copyOf(new LinkedHashSet<>(postIds));
+        List<String> redisKeys = ids.stream()
+                .map(LikeRedisKeys::likeCountKey)
+                .toList();
+
+        List<Object> values = likesRedisTemplate.opsForValue().multiGet(redisKeys);
+
+        Map<String, Integer> likeCounts = new HashMap<>();
+        List<String> missedIds = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Object value = values == null ? null : values.get(i);
+            if (value == null) {
+                missedIds.add(ids.get(i));
+            } else {
+                likeCounts.put(ids.get(i), Integer.parseInt(value.toString()));
+            }
+        }
+
+        if (missedIds.isEmpty()) {
+            return likeCounts;
+        }
+
+        //DB에서 한번에 집계, 좋아요가 없는 게시글은 0으로 채움
+        Map<String, Integer> loaded = new HashMap<>();
+        missedIds.forEach(postId -> loaded.put(postId, 0));
+        for (PostLikeCount row : likeRepository.countGroupByPostIds(missedIds)) {
+            loaded.put(row.postId(), row.likeCount().intValue());
+        }
+
+        // 세는 동안 토글이 먼저 채운 값을 덮지 않도록 단건 조회와 같은 스크립트로 조건부 저장
+        loaded.forEach((postId, count) -> {
+            Long cached = likesRedisTemplate.execute(
+                    FILL_COUNT_SCRIPT,
+                    List.of(LikeRedisKeys.likeCountKey(postId), LikeRedisKeys.likeUsersKey(postId)),
+                    count, DB_COUNT_TTL.toMillis()
+            );
+            likeCounts.put(postId, cached == null ? count : cached.intValue());
+        });
+        return likeCounts;
+    }
+
+    /**
+     * 탈퇴 회원이 누른 좋아요를 Redis 캐시에서 제거
+     * DB의 좋아요 행과 posts.like_count는 호출 전에 이미 반영되어 있어야 함
+     * @param userId : 탈퇴 회원
+     * @param postIds : 좋아요를 삭제한 게시글
+     */
+    public void removeUserLikes(String userId, Collection<String> postIds) {
+        for (String postId : postIds) {
+            likesRedisTemplate.execute(
+                    REMOVE_MEMBER_SCRIPT,
+                    List.of(LikeRedisKeys.likeUsersKey(postId), LikeRedisKeys.likeCountKey(postId)),
+                    userId
+            );
+        }
+    }
+
+    /**
+     * 삭제된 게시글의 좋아요 캐시(수, 유저 Set, 동기화 대상)를 모두 제거
+     */
+    public void clearPostLikes(Collection<String> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(postIds.size() * 2);
+        for (String postId : postIds) {
+            keys.add(LikeRedisKeys.likeCountKey(postId));
+            keys.add(LikeRedisKeys.likeUsersKey(postId));
         }
-        return Integer.parseInt(value.toString());
+        likesRedisTemplate.delete(keys);
+        likesRedisTemplate.opsForSet().remove(LikeRedisKeys.LIKE_DIRTY_KEY, postIds.toArray());
     }
 }
@@ -0,0 +1,98 @@
+package com.vani.week4.backend.post.batch;
+
+import com.vani.week4.backend.global.lock.ClusterJobLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * posts.comment_count를 실제 댓글 수와 맞춰주는 보정 스케쥴러
+ * 댓글 수는 원자적 UPDATE로 증감하지만, 장애나 수동 데이터 수정으로 어긋난 값을 하루 한번 바로잡음
+ * 게시글을 id 순으로 청크 단위로 훑어서 값이 다른 게시글만 갱신
+ * 여러 인스턴스 중 잠금을 얻은 한 곳에서만 실행
+ * @author vani
+ * @since 10/17/26
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconcileScheduler {
+    private static final int CHUNK_SIZE = 1000;
+    private static final String JOB_NAME = "comment-count-reconcile";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofHours(1);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+
+    private static final String SELECT_POSTS_SQL =
+            "SELECT id, comment_count FROM posts WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String COUNT_COMMENTS_SQL =
+            "SELECT post_id, COUNT(*) AS cnt FROM comment WHERE post_id IN (:postIds) GROUP BY post_id";
+    // 조회와 갱신 사이에 달린 댓글까지 반영되도록 갱신 시점에 다시 센다
+    private static final String RECONCILE_SQL =
+            "UPDATE posts SET comment_count = " +
+            "(SELECT COUNT(*) FROM comment c WHERE c.post_id = posts.id) " +
+            "WHERE id IN (:postIds)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ClusterJobLock clusterJobLock;
+
+    @Scheduled(cron = "0 30 4 * * *") // 매일 새벽 4시 30분
+    public void reconcileCommentCounts() {
+        clusterJobLock.runExclusively(JOB_NAME, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, this::reconcile);
+    }
+
+    private void reconcile() {
+        log.info("댓글 수 보정 시작");
+        String lastPostId = "";
+        int scanned = 0;
+        int fixed = 0;
+
+        while (true) {
+            Map<String, Integer> storedCounts = new HashMap<>();
+            List<String> postIds = new ArrayList<>();
+            jdbcTemplate.query(SELECT_POSTS_SQL, rs -> {
+                String postId = rs.getString("id");
+                postIds.add(postId);
+                storedCounts.put(postId, rs.getInt("comment_count"));
+            }, lastPostId, CHUNK_SIZE);
+
+            if (postIds.isEmpty()) {
+                break;
+            }
+
+            Map<String, Integer> actualCounts = new HashMap<>();
+            namedParameterJdbcTemplate.query(
+                    COUNT_COMMENTS_SQL,
+                    new MapSqlParameterSource("postIds", postIds),
+                    rs -> {
+                        actualCounts.put(rs.getString("post_id"), rs.getInt("cnt"));
+                    }
+            );
+
+            List<String> driftedPostIds = postIds.stream()
+                    .filter(postId -> !storedCounts.get(postId).equals(actualCounts.getOrDefault(postId, 0)))
+                    .toList();
+
+            if (!driftedPostIds.isEmpty()) {
+                fixed += namedParameterJdbcTemplate.update(
+                        RECONCILE_SQL,
+                        new MapSqlParameterSource("postIds", driftedPostIds)
+                );
+            }
+
+            scanned += postIds.size();
+            lastPostId = postIds.getLast();
+        }
+        log.info("댓글 수 보정 완료 : 검사 수: {}, 보정 수: {}", scanned, fixed);
+    }
+}
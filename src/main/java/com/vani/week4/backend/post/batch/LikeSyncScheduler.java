@@ -1,18 +1,24 @@
 package com.vani.week4.backend.post.batch;
 
-import com.vani.week4.backend.post.repository.PostRepository;
+import com.vani.week4.backend.global.lock.ClusterJobLock;
+import com.vani.week4.backend.interaction.service.LikeRedisKeys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Set;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Redis 에 저장된 좋아요 수를 5분마다 DB와 동기화하기 위한 스케쥴러
  * likesRedisTemplate를 이용
+ * 전체 키를 훑지 않고, LikeService가 기록한 변경 게시글 Set(like:dirty)만 청크 단위로 꺼내서 반영
+ * 여러 인스턴스 중 잠금을 얻은 한 곳에서만 실행
  * @author vani
  * @since 10/15/25
  */
@@ -20,60 +26,105 @@ import java.util.Set;
 @Component
 @Slf4j
 public class LikeSyncScheduler {
+    private static final String UPDATE_SQL = "UPDATE posts SET like_count = ? WHERE id = ?";
+    // 좋아요 수 키가 만료/삭제된 게시글은 DB의 좋아요 행으로 다시 셈
+    private static final String RECOUNT_SQL =
+            "UPDATE posts SET like_count = " +
+            "(SELECT COUNT(*) FROM user_post_like l WHERE l.post_id = posts.id) " +
+            "WHERE id = ?";
+    private static final int CHUNK_SIZE = 500;
+    private static final String JOB_NAME = "like-sync";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(4);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofSeconds(30);
+
     private final RedisTemplate<String, Object> likesRedisTemplate;
-    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterJobLock clusterJobLock;
 
     public LikeSyncScheduler(
             @Qualifier("likesRedisTemplate") RedisTemplate<String, Object> template,
-            PostRepository postRepository) {
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ClusterJobLock clusterJobLock) {
         this.likesRedisTemplate = template;
-        this.postRepository = postRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.clusterJobLock = clusterJobLock;
     }
 
     /**
      * Redis의 좋아요 수를 DB와 동기화
-     * 5분마다 실행되며, "post:like:*" 패턴의 모든 키를 조회하여 DB를 업데이트합니다.
+     * 5분마다 실행되며, like:dirty에서 SPOP으로 게시글을 꺼내 MGET으로 값을 읽고 JDBC 배치로 갱신합니다.
+     * 청크마다 트랜잭션을 나누고, 실패한 청크는 다시 like:dirty에 넣어 다음 주기에 재시도합니다.
      */
     @Scheduled(cron = "0 */5 * * * *") //5분마다 동기화
-    @Transactional
     public void synLikeCount() {
+        clusterJobLock.runExclusively(JOB_NAME, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, this::syncDirtyPosts);
+    }
+
+    private void syncDirtyPosts() {
         log.info("좋아요 수 동기화 시작");
-        Set<String> keys = likesRedisTemplate.keys("post:like:*");
+        Long dirtySize = likesRedisTemplate.opsForSet().size(LikeRedisKeys.LIKE_DIRTY_KEY);
 
-        if (keys == null || keys.isEmpty()) {
+        if (dirtySize == null || dirtySize == 0) {
             log.info("동기화할 데이터가 없습니다.");
             return;
         }
 
+        // 실행 중에 계속 추가되는 게시글은 다음 주기로 넘김
         int syncCount = 0;
+        int processed = 0;
+        while (processed < dirtySize) {
+            List<Object> popped = likesRedisTemplate.opsForSet().pop(LikeRedisKeys.LIKE_DIRTY_KEY, CHUNK_SIZE);
+            if (popped == null || popped.isEmpty()) {
+                break;
+            }
+            processed += popped.size();
 
-        for (String key : keys) {
+            List<String> postIds = popped.stream().map(Object::toString).toList();
             try {
-                // 키에서 postId추출
-                String postId = key.substring("post:like:".length());
-
-                // Redis에서 좋아요 수 조회
-                Object value = likesRedisTemplate.opsForValue().get(key);
+                syncCount += syncChunk(postIds);
+            } catch (Exception e) {
+                log.error("좋아요 수 동기화 실패, 다음 주기에 재시도 - 게시글 수: {}", postIds.size(), e);
+                likesRedisTemplate.opsForSet().add(LikeRedisKeys.LIKE_DIRTY_KEY, popped.toArray());
+                break;
+            }
+        }
+        log.info("좋아요 수 동기화 완료 : 처리 수: {}", syncCount);
+    }
 
-                if (value == null) {
-                    continue;
-                }
+    private int syncChunk(List<String> postIds) {
+        List<Object> values = likesRedisTemplate.opsForValue().multiGet(
+                postIds.stream().map(LikeRedisKeys::likeCountKey).toList()
+        );
 
+        List<Object[]> args = new ArrayList<>();
+        List<Object[]> recountArgs = new ArrayList<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            Object value = values == null ? null : values.get(i);
+            if (value == null) {
+                recountArgs.add(new Object[]{postIds.get(i)});
+                continue;
+            }
+            try {
                 //string to integer
-                Integer likeCount = Integer.parseInt(value.toString());
-
-                //DB 업데이트
-                postRepository.findById(postId).ifPresent(post -> {
-                    post.updateLikeCount(likeCount);
-                });
-
-                syncCount++;
+                args.add(new Object[]{Integer.parseInt(value.toString()), postIds.get(i)});
             } catch (NumberFormatException e) {
-                log.error("Redis 값을 숫자로 변환 실패 - key:{}", key, e);
-            } catch (Exception e) {
-                log.error("좋아요 수 동기화 실패 - key:{}, error: {}", key, e.getMessage());
+                log.error("Redis 값을 숫자로 변환 실패 - postId:{}", postIds.get(i), e);
             }
         }
-        log.info("좋아요 수 동기화 완료 : 처리 수: {}", syncCount);
+
+        if (!args.isEmpty() || !recountArgs.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!args.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+                }
+                if (!recountArgs.isEmpty()) {
+                    jdbcTemplate.batchUpdate(RECOUNT_SQL, recountArgs);
+                }
+            });
+        }
+        return args.size() + recountArgs.size();
     }
 }
@@ -0,0 +1,80 @@
+package com.vani.week4.backend.post.batch;
+
+import com.vani.week4.backend.post.service.PostDetailCache;
+import com.vani.week4.backend.post.service.ViewCountBuffer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메모리에 누적된 조회수 증가분을 주기적으로 posts.view_count에 반영하는 스케쥴러
+ * 증가분만 더하므로(view_count = view_count + ?) 모든 인스턴스에서 각자 실행되어야 함
+ * 반영한 게시글은 상세 캐시에서 비운 뒤 반영 중 증가분을 지워, 응답 조회수가 반영 전후로 줄어들지 않게 함
+ * @author vani
+ * @since 10/17/26
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountFlushScheduler {
+    private static final String UPDATE_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+    private static final int BATCH_SIZE = 500;
+
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostDetailCache postDetailCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 10초마다 누적된 조회수를 배치 UPDATE로 반영
+     * 청크마다 트랜잭션을 나눠 잠금 시간을 짧게 유지하고, 실패한 청크는 버퍼로 되돌림
+     */
+    @Scheduled(fixedDelay = 10_000)
+    public void flushViewCounts() {
+        Map<String, Long> deltas = viewCountBuffer.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        // 인스턴스 간 잠금 순서를 맞춰 데드락 방지
+        List<String> postIds = new ArrayList<>(deltas.keySet());
+        postIds.sort(null);
+
+        int flushed = 0;
+        for (int from = 0; from < postIds.size(); from += BATCH_SIZE) {
+            List<String> chunk = postIds.subList(from, Math.min(from + BATCH_SIZE, postIds.size()));
+            List<Object[]> args = chunk.stream()
+                    .map(postId -> new Object[]{deltas.get(postId), postId})
+                    .toList();
+            Map<String, Long> chunkDeltas = new HashMap<>();
+            chunk.forEach(postId -> chunkDeltas.put(postId, deltas.get(postId)));
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_SQL, args));
+            } catch (Exception e) {
+                log.error("조회수 반영 실패, 다음 주기에 재시도 - 게시글 수: {}", chunk.size(), e);
+                viewCountBuffer.restore(chunkDeltas);
+                continue;
+            }
+            // 캐시를 먼저 비워야 옛 조회수에 반영 중 증가분이 빠진 값이 보이지 않음
+            chunk.forEach(postDetailCache::evict);
+            viewCountBuffer.complete(chunkDeltas);
+            flushed += chunk.size();
+        }
+        log.debug("조회수 반영 완료 : 게시글 수: {}", flushed);
+    }
+
+    // 종료 시 남은 조회수 반영 (graceful shutdown)
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushViewCounts();
+    }
+}
@@ -0,0 +1,47 @@
+package com.vani.week4.backend.post.dto;
+
+import com.vani.week4.backend.post.entity.Post;
+import com.vani.week4.backend.post.entity.PostContent;
+import com.vani.week4.backend.user.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 캐시에 담는 불변 값
+ * 사용자마다 다른 값(좋아요 여부)과 자주 바뀌는 값(좋아요 수, 반영 대기 조회수)은 응답 시점에 채움
+ * likeCount는 DB에 동기화된 값으로, Redis 조회가 늦을 때의 대체 값으로만 사용
+ * 이미지는 만료되는 presigned URL 대신 키를 저장
+ * @author vani
+ * @since 10/17/26
+ */
+public record PostDetailSnapshot(
+        String postId,
+        String title,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        String content,
+        String postImageKey,
+        String authorNickname,
+        String authorProfileImageKey,
+        long viewCount,
+        long commentCount,
+        long likeCount
+) {
+    public static PostDetailSnapshot from(Post post) {
+        PostContent content = post.getPostContent();
+        User author = post.getUser();
+        return new PostDetailSnapshot(
+                post.getId(),
+                post.getTitle(),
+                post.getCreatedAt(),
+                post.getUpdatedAt(),
+                content.getContent(),
+                content.getPostImageKey(),
+                author.getNickname(),
+                author.getProfileImageKey(),
+                post.getViewCount(),
+                post.getCommentCount(),
+                post.getLikeCount()
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.vani.week4.backend.post.dto.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회 전용 프로젝션
+ * 본문(PostContent, LONGTEXT)을 제외하고 목록에 필요한 컬럼만 한번의 쿼리로 가져옴
+ * @author vani
+ * @since 10/17/26
+ */
+public record PostSummaryProjection(
+        String postId,
+        String title,
+        LocalDateTime createdAt,
+        Integer viewCount,
+        Integer commentCount,
+        Integer likeCount,
+        String authorNickname,
+        String authorProfileImageKey
+) {
+}
@@ -27,6 +27,6 @@ public record PostDetailResponse (
             long likeCount,
             long commentCount,
             long viewCount,
-            boolean isLiked
+            Boolean isLiked // 좋아요 여부를 확인하지 못하면 null
     ) {}
 }
\ No newline at end of file
@@ -74,13 +74,6 @@ public class Post {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-    public void incrementCommentCount() {
-        this.commentCount++;
-    }
-    public void decreaseCommentCount() { this.commentCount--; }
     public void updateLikeCount(Integer likeCount) {
         this.likeCount = likeCount;
     }
@@ -0,0 +1,59 @@
+package com.vani.week4.backend.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * 게시글 대량 삭제용 JDBC 저장소
+ * JPA로 지우면 댓글, 좋아요를 모두 엔티티로 읽은 뒤 한 행씩 삭제하므로 PK/FK 조건으로 바로 삭제
+ * 자식 행은 LIMIT을 건 DELETE를 반복해서, 한번에 잡는 잠금과 undo 로그 크기를 제한
+ * 트랜잭션 밖에서 호출하면 문장마다 커밋되고, 중간에 실패해도 다시 호출하면 이어서 지움
+ * @author vani
+ * @since 10/17/26
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostBulkRepository {
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String DELETE_COMMENTS_SQL =
+            "DELETE FROM comment WHERE post_id IN (:postIds) LIMIT :limit";
+    private static final String DELETE_LIKES_SQL =
+            "DELETE FROM user_post_like WHERE post_id IN (:postIds) LIMIT :limit";
+    private static final String DELETE_CONTENTS_SQL =
+            "DELETE FROM post_contents WHERE post_id IN (:postIds)";
+    private static final String DELETE_POSTS_SQL =
+            "DELETE FROM posts WHERE id IN (:postIds)";
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 게시글과 본문, 댓글, 좋아요를 모두 삭제
+     * FK가 있으므로 자식 행부터 지움
+     * @return 삭제된 게시글 수
+     */
+    public int deleteAllByIds(Collection<String> postIds) {
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        deleteInChunks(DELETE_COMMENTS_SQL, postIds);
+        deleteInChunks(DELETE_LIKES_SQL, postIds);
+
+        MapSqlParameterSource params = new MapSqlParameterSource("postIds", postIds);
+        namedParameterJdbcTemplate.update(DELETE_CONTENTS_SQL, params);
+        return namedParameterJdbcTemplate.update(DELETE_POSTS_SQL, params);
+    }
+
+    private void deleteInChunks(String sql, Collection<String> postIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource("postIds", postIds)
+                .addValue("limit", CHUNK_SIZE);
+        int deleted;
+        do {
+            deleted = namedParameterJdbcTemplate.update(sql, params);
+        } while (deleted == CHUNK_SIZE);
+    }
+}
@@ -1,11 +1,13 @@
 package com.vani.week4.backend.post.repository;
 
+import com.vani.week4.backend.post.dto.projection.PostSummaryProjection;
 import com.vani.week4.backend.post.entity.Post;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -19,13 +21,16 @@ import java.util.Optional;
 public interface PostRepository extends JpaRepository<Post, String> {
 
     // 커서 기반 페이지네이션, 첫 조회를 위한 조건
-    @EntityGraph(attributePaths = {"postContent", "user"})
-    @Query("SELECT p FROM Post p WHERE " +
+    // 목록에는 본문이 필요 없으므로 PostContent(LONGTEXT)를 읽지 않고 프로젝션으로 조회
+    @Query("SELECT new com.vani.week4.backend.post.dto.projection.PostSummaryProjection(" +
+            "p.id, p.title, p.createdAt, p.viewCount, p.commentCount, p.likeCount, " +
+            "u.nickname, u.profileImageKey) " +
+            "FROM Post p JOIN p.user u WHERE " +
             "(:cursorCreatedAt IS NULL OR " +
             "p.createdAt < :cursorCreatedAt OR " +
             "(p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
             "ORDER BY p.createdAt DESC, p.id DESC")
-    Slice<Post> findByCursor(
+    Slice<PostSummaryProjection> findSummariesByCursor(
             @Param("cursorId") String cursorId,
             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
             Pageable pageable
@@ -39,4 +44,13 @@ public interface PostRepository extends JpaRepository<Post, String> {
             "WHERE p.id = :postId")
     Optional<Post> findByIdWithContent(@Param("postId") String postId);
 
+    // 삭제 권한 확인용, 게시글 엔티티와 연관 컬렉션을 읽지 않고 작성자 id만 조회
+    @Query("SELECT p.user.id FROM Post p WHERE p.id = :postId")
+    Optional<String> findAuthorIdById(@Param("postId") String postId);
+
+    // 댓글 수를 DB에서 원자적으로 증감, 엔티티를 읽고 고쳐 쓰는 과정에서 생기는 갱신 유실 방지
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta WHERE p.id = :postId")
+    int addCommentCount(@Param("postId") String postId, @Param("delta") int delta);
+
 }
@@ -0,0 +1,174 @@
+package com.vani.week4.backend.post.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vani.week4.backend.global.datasource.DataSourceRouting;
+import com.vani.week4.backend.global.util.AfterCommit;
+import com.vani.week4.backend.post.dto.projection.PostSummaryProjection;
+import com.vani.week4.backend.post.repository.PostRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 최신 게시글 목록 앞부분(피드 헤드) 2단 캐시
+ * 커서 없는 첫 페이지와 그 뒤 몇 페이지는 모든 사용자에게 같으므로 최신 HEAD_SIZE개를 한번 읽어 나눠서 응답
+ * <ul>
+ *     <li>L1 : 인스턴스 로컬 Caffeine, 짧은 TTL</li>
+ *     <li>L2 : Redis post:feed:head:{version}, 인스턴스 간 공유해서 재시작/만료 시 DB 조회를 한번으로 줄임</li>
+ * </ul>
+ * 게시글 작성/제목 수정/삭제가 커밋되면 버전을 올리고 Pub/Sub으로 다른 인스턴스의 L1을 비움
+ * 버전을 먼저 읽고 DB를 읽으므로, 커밋 전 값을 읽은 로더는 옛 버전 키에만 쓰게 되어 새 버전을 덮지 않음
+ * 메시지를 놓쳐도 L1 TTL이 지나면 새 버전을 읽음, 좋아요 수는 응답 시점에 따로 조회하므로 캐시하지 않음
+ * @author vani
+ * @since 10/17/26
+ */
+@Slf4j
+@Component
+public class FeedHeadCache implements MessageListener {
+    public static final String INVALIDATION_CHANNEL = "post:feed:invalidations";
+    private static final String VERSION_KEY = "post:feed:version";
+    private static final String HEAD_KEY_PREFIX = "post:feed:head:";
+    private static final String LOCAL_KEY = "head";
+    private static final int HEAD_SIZE = 100;
+    private static final Duration LOCAL_TTL = Duration.ofSeconds(10);
+    private static final Duration REDIS_TTL = Duration.ofSeconds(60);
+
+    private final PostRepository postRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, FeedHead> localCache;
+
+    public FeedHeadCache(
+            PostRepository postRepository,
+            @Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry
+    ) {
+        this.postRepository = postRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(LOCAL_TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "post.feedHead");
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 피드 헤드 안에서 응답할 수 있는 페이지를 반환
+     * @param cursorId : 이전 페이지 마지막 게시글 id, 첫 페이지면 null
+     * @param cursorCreatedAt : 첫 페이지면 null
+     * @return 헤드 밖의 게시글이 필요하면 null (DB에서 조회해야 함)
+     */
+    public Slice<PostSummaryProjection> getPage(String cursorId, LocalDateTime cursorCreatedAt, int size) {
+        if (size > HEAD_SIZE) {
+            return null;
+        }
+        FeedHead head = localCache.get(LOCAL_KEY, key -> load());
+        List<PostSummaryProjection> posts = head.posts();
+
+        int from = 0;
+        if (cursorCreatedAt != null) {
+            from = indexAfter(posts, cursorId);
+            if (from < 0) {
+                return null;
+            }
+        }
+
+        int to = from + size;
+        // 헤드 뒤에 게시글이 더 있는데 헤드만으로 페이지를 채울 수 없으면 DB 조회
+        if (to > posts.size() && head.hasMore()) {
+            return null;
+        }
+        boolean hasNext = to < posts.size() || head.hasMore();
+        Pageable pageable = PageRequest.of(0, size);
+        return new SliceImpl<>(posts.subList(from, Math.min(to, posts.size())), pageable, hasNext);
+    }
+
+    /**
+     * 피드 헤드를 무효화
+     * 트랜잭션 안이면 커밋 전에 다른 요청이 옛 값을 다시 채울 수 있으므로 커밋 후에 무효화
+     */
+    public void invalidate() {
+        AfterCommit.run(this::bumpVersion);
+    }
+
+    // 다른 인스턴스의 게시글 변경을 받아 로컬 캐시를 비움
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        localCache.invalidateAll();
+    }
+
+    private void bumpVersion() {
+        try {
+            Long version = redisTemplate.opsForValue().increment(VERSION_KEY);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(version));
+        } catch (Exception e) {
+            // 다른 인스턴스는 L1 TTL이 지나면 DB 기준 값으로 돌아옴
+            log.warn("피드 캐시 버전 갱신 실패", e);
+        }
+        localCache.invalidateAll();
+    }
+
+    private int indexAfter(List<PostSummaryProjection> posts, String cursorId) {
+        for (int i = 0; i < posts.size(); i++) {
+            if (posts.get(i).postId().equals(cursorId)) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private FeedHead load() {
+        String headKey = null;
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY);
+            headKey = HEAD_KEY_PREFIX + (version == null ? "0" : version);
+            String json = redisTemplate.opsForValue().get(headKey);
+            if (json != null) {
+                return objectMapper.readValue(json, FeedHead.class);
+            }
+        } catch (Exception e) {
+            log.warn("Redis 피드 캐시 조회 실패, DB에서 조회", e);
+        }
+
+        // 버전을 올린 직후의 로드이므로 복제 지연 없이 primary에서 조회
+        Slice<PostSummaryProjection> slice = DataSourceRouting.callOnPrimary(
+                () -> postRepository.findSummariesByCursor(null, null, PageRequest.of(0, HEAD_SIZE)));
+        FeedHead head = new FeedHead(slice.getContent(), slice.hasNext());
+
+        if (headKey != null) {
+            try {
+                redisTemplate.opsForValue().set(headKey, objectMapper.writeValueAsString(head), REDIS_TTL);
+            } catch (Exception e) {
+                log.warn("Redis 피드 캐시 저장 실패", e);
+            }
+        }
+        return head;
+    }
+
+    record FeedHead(
+            List<PostSummaryProjection> posts,
+            boolean hasMore
+    ) {}
+}
@@ -0,0 +1,145 @@
+package com.vani.week4.backend.post.service;
+
+import com.vani.week4.backend.global.ErrorCode;
+import com.vani.week4.backend.global.datasource.DataSourceRouting;
+import com.vani.week4.backend.global.exception.PostNotFoundException;
+import com.vani.week4.backend.infra.S3.S3Service;
+import com.vani.week4.backend.interaction.service.LikeService;
+import com.vani.week4.backend.post.dto.PostDetailSnapshot;
+import com.vani.week4.backend.post.dto.response.PostDetailResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 응답 조립
+ * 서로 의존하지 않는 조회(좋아요 수, 좋아요 여부)를 가상 스레드에서 먼저 시작하고, 그동안 게시글 캐시를 조회
+ * 요청마다 마감 시각을 두고, 그때까지 끝나지 않거나 실패한 조회는 대체 값으로 응답
+ * <ul>
+ *     <li>좋아요 수 : DB에 동기화된 posts.like_count</li>
+ *     <li>좋아요 여부 : null, 누르지 않은 것(false)과 구분해서 클라이언트가 판단하도록 함</li>
+ * </ul>
+ * 게시글 자체를 읽지 못하면 대체할 값이 없으므로 그대로 실패
+ * @author vani
+ * @since 10/17/26
+ */
+@Slf4j
+@Component
+public class PostDetailAssembler {
+    private final PostDetailCache postDetailCache;
+    private final LikeService likeService;
+    private final S3Service s3Service;
+    private final ViewCountBuffer viewCountBuffer;
+    private final long timeoutMs;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter likeCountFallbackCounter;
+    private final Counter isLikedFallbackCounter;
+
+    public PostDetailAssembler(
+            PostDetailCache postDetailCache,
+            LikeService likeService,
+            S3Service s3Service,
+            ViewCountBuffer viewCountBuffer,
+            MeterRegistry meterRegistry,
+            @Value("${post.detail.timeout-ms:300}") long timeoutMs
+    ) {
+        this.postDetailCache = postDetailCache;
+        this.likeService = likeService;
+        this.s3Service = s3Service;
+        this.viewCountBuffer = viewCountBuffer;
+        this.timeoutMs = timeoutMs;
+        this.likeCountFallbackCounter = Counter.builder("post.detail.fallback")
+                .tag("part", "likeCount")
+                .register(meterRegistry);
+        this.isLikedFallbackCounter = Counter.builder("post.detail.fallback")
+                .tag("part", "isLiked")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게시글 상세 응답을 조립
+     * @param postId : 게시글 아이디
+     * @param userId : 좋아요 여부를 확인할 사용자
+     */
+    public PostDetailResponse assemble(String postId, String userId) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+        CompletableFuture<Integer> likeCount = submit(() -> likeService.getLikeCount(postId));
+        CompletableFuture<Boolean> isLiked = submit(() -> likeService.isLiked(userId, postId));
+
+        PostDetailSnapshot post = postDetailCache.get(postId);
+        if (post == null) {
+            likeCount.cancel(false);
+            isLiked.cancel(false);
+            throw new PostNotFoundException(ErrorCode.RESOURCE_NOT_FOUND);
+        }
+
+        // 조회수는 메모리에 누적 후 스케쥴러가 일괄 반영, 응답에는 반영 대기분까지 포함
+        viewCountBuffer.increment(postId);
+        long viewCount = post.viewCount() + viewCountBuffer.getPending(postId);
+
+        // presigned URL은 로컬 캐시에서 꺼내거나 서명만 하므로 I/O 없이 현재 스레드에서 처리
+        String postImageUrl = s3Service.createPresignedGetUrl(post.postImageKey());
+        String authorProfileUrl = s3Service.createPresignedGetUrl(post.authorProfileImageKey());
+
+        return new PostDetailResponse(
+                postId,
+                post.title(),
+                post.createdAt(),
+                post.updatedAt(),
+                new PostDetailResponse.ContentDetail(
+                        post.content(),
+                        postImageUrl
+                ),
+                new PostDetailResponse.Author(
+                        post.authorNickname(),
+                        authorProfileUrl
+                ),
+                new PostDetailResponse.Stats(
+                        await(likeCount, deadline, (int) post.likeCount(), likeCountFallbackCounter, postId),
+                        post.commentCount(),
+                        viewCount,
+                        await(isLiked, deadline, null, isLikedFallbackCounter, postId)
+                )
+        );
+    }
+
+    // 요청 스레드의 primary 고정(read-your-writes)을 가상 스레드에도 전달
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        boolean primaryPinned = DataSourceRouting.isPrimaryPinned();
+        Supplier<T> routed = primaryPinned ? () -> DataSourceRouting.callOnPrimary(task) : task;
+        return CompletableFuture.supplyAsync(routed, executor);
+    }
+
+    private <T> T await(CompletableFuture<T> future, long deadline, T fallback, Counter fallbackCounter, String postId) {
+        long remaining = deadline - System.nanoTime();
+        try {
+            return future.get(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            log.warn("게시글 상세 조회 마감 초과, 대체 값 사용 - postId: {}", postId);
+        } catch (ExecutionException e) {
+            log.warn("게시글 상세 조회 실패, 대체 값 사용 - postId: {}", postId, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        fallbackCounter.increment();
+        return fallback;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
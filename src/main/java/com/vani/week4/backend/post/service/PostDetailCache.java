@@ -0,0 +1,59 @@
+package com.vani.week4.backend.post.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vani.week4.backend.global.datasource.DataSourceRouting;
+import com.vani.week4.backend.global.util.AfterCommit;
+import com.vani.week4.backend.post.dto.PostDetailSnapshot;
+import com.vani.week4.backend.post.repository.PostRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 게시글 상세 로컬 캐시
+ * 같은 게시글에 대한 동시 미스는 Caffeine이 키 단위로 한번만 로드하고 나머지 요청은 그 결과를 기다림
+ * 인기 게시글에 요청이 몰려도 인스턴스마다 TTL당 한번만 DB를 조회
+ * 다른 인스턴스에서의 수정은 TTL 동안 늦게 보일 수 있으므로 TTL을 짧게 유지
+ * @author vani
+ * @since 10/17/26
+ */
+@Component
+public class PostDetailCache {
+    private static final Duration TTL = Duration.ofSeconds(10);
+    private static final long MAX_SIZE = 5_000;
+
+    private final PostRepository postRepository;
+    private final Cache<String, PostDetailSnapshot> cache;
+
+    public PostDetailCache(PostRepository postRepository, MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "post.detail");
+    }
+
+    /**
+     * 게시글 상세를 캐시에서 가져오고, 없으면 본문과 작성자를 함께 조회해서 채움
+     * @return 게시글이 없으면 null (캐시하지 않음)
+     */
+    public PostDetailSnapshot get(String postId) {
+        return cache.get(postId, id -> DataSourceRouting.callOnPrimary(() -> postRepository.findByIdWithContent(id)
+                .map(PostDetailSnapshot::from)
+                .orElse(null)));
+    }
+
+    /**
+     * 캐시에서 게시글을 제거
+     * 트랜잭션 안이면 커밋 전에 다른 요청이 옛 값을 다시 채울 수 있으므로 커밋 후에 한번 더 제거
+     */
+    public void evict(String postId) {
+        cache.invalidate(postId);
+        AfterCommit.run(() -> cache.invalidate(postId));
+    }
+}
@@ -5,8 +5,8 @@ import com.vani.week4.backend.global.ErrorCode;
 import com.vani.week4.backend.global.exception.PostNotFoundException;
 import com.vani.week4.backend.global.exception.UnauthorizedException;
 import com.vani.week4.backend.infra.S3.S3Service;
-import com.vani.week4.backend.interaction.repository.LikeRepository;
 import com.vani.week4.backend.interaction.service.LikeService;
+import com.vani.week4.backend.post.dto.projection.PostSummaryProjection;
 import com.vani.week4.backend.post.dto.request.PostCreateRequest;
 import com.vani.week4.backend.post.dto.request.PostUpdateRequest;
 import com.vani.week4.backend.post.dto.response.PostDetailResponse;
@@ -14,6 +14,7 @@ import com.vani.week4.backend.post.dto.response.PostSummaryResponse;
 import com.vani.week4.backend.global.dto.SliceResponse;
 import com.vani.week4.backend.post.entity.Post;
 import com.vani.week4.backend.post.entity.PostContent;
+import com.vani.week4.backend.post.repository.PostBulkRepository;
 import com.vani.week4.backend.post.repository.PostRepository;
 import com.vani.week4.backend.user.entity.User;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +28,7 @@ import org.springframework.web.util.HtmlUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author vani
@@ -37,24 +39,33 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PostService {
     private final PostRepository postRepository;
-    private final LikeRepository likeRepository;
+    private final PostBulkRepository postBulkRepository;
     private final LikeService likeService;
     private final S3Service s3Service;
+    private final FeedHeadCache feedHeadCache;
+    private final PostDetailCache postDetailCache;
+    private final PostDetailAssembler postDetailAssembler;
 
     /**
      * 게시글 목록 커서 페이징을 위한 메서드, 생성일자와 Id 기준으로 내림차순
      * @param cursorId : 커서 페이징을 위한 postId
      * @param cursorCreatedAt : 커서 페이징을 위한 생성일자
      * @param size : 요청을 통해 가져올 게시글 수
+     * readOnly 트랜잭션이므로 replica에서 조회
      * */
+    @Transactional(readOnly = true)
     public SliceResponse<PostSummaryResponse> getPosts(
             String cursorId,
             LocalDateTime cursorCreatedAt,
             int size
     ) {
-        // 정렬된 post들 가져오기
-        Pageable pageable = PageRequest.of(0, size);
-        Slice<Post> posts = postRepository.findByCursor(cursorId, cursorCreatedAt, pageable);
+        // 정렬된 post들 가져오기 (본문 제외 프로젝션)
+        // 최신 게시글 앞부분은 캐시에서, 그 뒤는 DB에서 조회
+        Slice<PostSummaryProjection> posts = feedHeadCache.getPage(cursorId, cursorCreatedAt, size);
+        if (posts == null) {
+            Pageable pageable = PageRequest.of(0, size);
+            posts = postRepository.findSummariesByCursor(cursorId, cursorCreatedAt, pageable);
+        }
 
         return convertToSliceResponse(posts);
     }
@@ -62,10 +73,17 @@ public class PostService {
     /**
      * 응답 형태로 변환하는 메서드
      * */
-    private SliceResponse<PostSummaryResponse> convertToSliceResponse(Slice<Post> posts) {
-        // Entity -> DTO 변환
+    private SliceResponse<PostSummaryResponse> convertToSliceResponse(Slice<PostSummaryProjection> posts) {
+        // 페이지 전체의 좋아요 수를 한번에 조회
+        Map<String, Integer> likeCounts = likeService.getLikeCounts(
+                posts.getContent().stream()
+                        .map(PostSummaryProjection::postId)
+                        .toList()
+        );
+
+        // Projection -> DTO 변환
         List<PostSummaryResponse> items = posts.getContent().stream()
-                .map(this::toPostSummaryResponse)
+                .map(post -> toPostSummaryResponse(post, likeCounts.getOrDefault(post.postId(), 0)))
                 .toList();
 
         SliceResponse.Cursor nextCursor = createNewNextCursor(posts);
@@ -76,24 +94,24 @@ public class PostService {
     /**
      * 다음 커서 생성하는 메서드
      * */
-    private SliceResponse.Cursor createNewNextCursor(Slice<Post> posts) {
+    private SliceResponse.Cursor createNewNextCursor(Slice<PostSummaryProjection> posts) {
         if (!posts.hasNext() || posts.getContent().isEmpty()) {
             return null;
         }
-        Post lastPost = posts.getContent().getLast();
+        PostSummaryProjection lastPost = posts.getContent().getLast();
         return new SliceResponse.Cursor(
-                lastPost.getId(),
-                lastPost.getCreatedAt()
+                lastPost.postId(),
+                lastPost.createdAt()
         );
     }
 
     /**
      * 응답 DTO로 변환하는 메서드
      * */
-    private PostSummaryResponse toPostSummaryResponse(Post post) {
-        String postId = post.getId();
+    private PostSummaryResponse toPostSummaryResponse(PostSummaryProjection post, int likeCount) {
+        String postId = post.postId();
 
-        String profileImageKey = post.getUser().getProfileImageKey();
+        String profileImageKey = post.authorProfileImageKey();
         String authorImageUrl = null;
 
         if (profileImageKey != null && !profileImageKey.isBlank()) {
@@ -102,39 +120,27 @@ public class PostService {
 
         return new PostSummaryResponse(
                 postId,
-                post.getTitle(),
-                post.getCreatedAt(),
+                post.title(),
+                post.createdAt(),
                 new PostSummaryResponse.Author(
-                        post.getUser().getNickname(),
+                        post.authorNickname(),
                         authorImageUrl
                 ),
                 new PostSummaryResponse.Stats(
-                        likeService.getLikeCount(postId),
-                        post.getCommentCount(),
-                        post.getViewCount()
+                        likeCount,
+                        post.commentCount(),
+                        post.viewCount()
                 )
         );
     }
 
     /**
      * 게시글 id를 이용하여 게시글 상세 정보를 불러 오는 메서드
+     * 게시글 본문과 작성자는 캐시에서, 좋아요 수와 좋아요 여부는 요청마다 동시에 조회
      * @param postId : 게시글 아이디
      * */
-    @Transactional
     public PostDetailResponse getPostDetail(String postId, User currentUser) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new PostNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
-        //TODO Count 로직 개선 필요
-        String imageKey = post.getPostContent().getPostImageKey();
-        String imageUrl = null;
-
-        if (imageKey != null && !imageKey.isEmpty()) {
-            imageUrl = s3Service.createPresignedGetUrl(imageKey);
-        }
-
-        post.incrementViewCount();
-        Boolean isLiked = likeRepository.existsByUserIdAndPostId(currentUser.getId(), postId);
-        return toPostDetailResponse(post, imageUrl, isLiked);
+        return postDetailAssembler.assemble(postId, currentUser.getId());
     }
 
     /**
@@ -160,14 +166,15 @@ public class PostService {
         post.setPostContent(postContent);
 
         postRepository.save(post);
+        feedHeadCache.invalidate();
 
         if (request.postImageKey() != null) {
             log.warn("이미지키 없음. [{}] ", request.postImageKey());
 
             String  imageUrl = s3Service.createPresignedGetUrl(request.postImageKey());
-            return toPostDetailResponse(post, imageUrl, false);
+            return toPostDetailResponse(post, imageUrl, false, post.getViewCount());
         } else {
-            return toPostDetailResponse(post, null, false);
+            return toPostDetailResponse(post, null, false, post.getViewCount());
         }
     }
 
@@ -191,6 +198,7 @@ public class PostService {
         // 제목 수정 (null이 아닐 때만)
         if (request.title() != null) {
             post.updateTitle(request.title());
+            feedHeadCache.invalidate();
         }
 
         // 내용 수정 (null이 아닐 때만)
@@ -203,13 +211,14 @@ public class PostService {
         }
 
         post.updateModifiedDate();
-        Boolean isLiked = likeRepository.existsByUserIdAndPostId(user.getId(), postId);
+        postDetailCache.evict(postId);
+        Boolean isLiked = likeService.isLiked(user.getId(), postId);
         String postImageUrl = s3Service.createPresignedGetUrl(post.getPostContent().getPostImageKey());
 
-        return toPostDetailResponse(post, postImageUrl, isLiked);
+        return toPostDetailResponse(post, postImageUrl, isLiked, post.getViewCount());
     }
 
-    private PostDetailResponse toPostDetailResponse(Post post, String postImageUrl, Boolean isLiked) {
+    private PostDetailResponse toPostDetailResponse(Post post, String postImageUrl, Boolean isLiked, long viewCount) {
         PostContent content = post.getPostContent();
         User user = post.getUser();
 
@@ -237,7 +246,7 @@ public class PostService {
                 new PostDetailResponse.Stats(
                         likeService.getLikeCount(postId),
                         post.getCommentCount(),
-                        post.getViewCount(),
+                        viewCount,
                         isLiked
                 )
         );
@@ -245,17 +254,21 @@ public class PostService {
 
     /**
      * 게시글을 삭제하는 메서드, 완전 삭제(postContent, like, comment)
+     * 엔티티를 읽어 cascade로 지우면 댓글, 좋아요를 모두 메모리에 올리고 한 행씩 삭제하므로 벌크 DELETE로 삭제
+     * 청크마다 커밋되며, 중간에 실패하면 게시글이 남아있으므로 다시 삭제하면 이어서 지움
      * */
-    @Transactional
     public void deletePost(User user, String postId) {
-        Post post = postRepository.findByIdWithContent(postId)
+        String authorId = postRepository.findAuthorIdById(postId)
                 .orElseThrow(() -> new PostNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
 
-        if (!post.getUser().getId().equals(user.getId())) {
+        if (!authorId.equals(user.getId())) {
             throw new UnauthorizedException(ErrorCode.UNAUTHORIZED);
         }
 
-        postRepository.delete(post);
-
+        List<String> postIds = List.of(postId);
+        postBulkRepository.deleteAllByIds(postIds);
+        likeService.clearPostLikes(postIds);
+        postDetailCache.evict(postId);
+        feedHeadCache.invalidate();
     }
 }
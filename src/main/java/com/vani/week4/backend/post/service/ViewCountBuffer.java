@@ -0,0 +1,66 @@
+package com.vani.week4.backend.post.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수를 메모리에 누적하는 버퍼
+ * 조회마다 posts 행을 UPDATE 하지 않고, ViewCountFlushScheduler가 주기적으로 증가분만 DB에 반영
+ * 인스턴스별로 증가분(delta)만 들고 있으므로 여러 인스턴스가 동시에 반영해도 값이 덮어써지지 않음
+ * 꺼낸 증가분은 반영이 끝날 때까지 반영 중으로 남겨 두어, 캐시된 조회수 + 대기분이 반영 도중에 줄어들지 않게 함
+ * @author vani
+ * @since 10/17/26
+ */
+@Component
+public class ViewCountBuffer {
+    private final ConcurrentHashMap<String, Long> pendingViews = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Long> flushingViews = new ConcurrentHashMap<>();
+
+    // merge는 키 단위로 원자적, 인기 게시글도 DB 행 잠금 대신 메모리에서만 경합
+    public void increment(String postId) {
+        pendingViews.merge(postId, 1L, Long::sum);
+    }
+
+    // 아직 DB에 반영되지 않은 조회수 (반영 중인 증가분 포함)
+    public long getPending(String postId) {
+        return pendingViews.getOrDefault(postId, 0L) + flushingViews.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 누적된 증가분을 꺼내 반영 중으로 옮기는 메서드
+     * remove가 원자적이므로 꺼낸 이후의 조회는 다음 반영 주기로 넘어감
+     * 반영이 끝나면 complete, 실패하면 restore를 호출해야 함
+     * @return 게시글 아이디별 조회수 증가분
+     */
+    public Map<String, Long> drain() {
+        Map<String, Long> drained = new HashMap<>();
+        for (String postId : pendingViews.keySet()) {
+            Long delta = pendingViews.remove(postId);
+            if (delta != null) {
+                flushingViews.merge(postId, delta, Long::sum);
+                drained.put(postId, delta);
+            }
+        }
+        return drained;
+    }
+
+    // DB에 반영된 증가분을 반영 중에서 제거, 호출 전에 조회수를 캐시한 곳을 비워야 함
+    public void complete(Map<String, Long> deltas) {
+        deltas.forEach(this::removeFlushing);
+    }
+
+    // DB 반영에 실패한 증가분을 다시 버퍼에 돌려놓음
+    public void restore(Map<String, Long> deltas) {
+        deltas.forEach((postId, delta) -> {
+            pendingViews.merge(postId, delta, Long::sum);
+            removeFlushing(postId, delta);
+        });
+    }
+
+    private void removeFlushing(String postId, long delta) {
+        flushingViews.computeIfPresent(postId, (id, current) -> current - delta <= 0 ? null : current - delta);
+    }
+}
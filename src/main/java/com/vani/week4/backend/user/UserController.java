@@ -28,8 +28,8 @@ public class UserController {
 
     //회원 정보 조회
     @GetMapping("/me")
-    public ResponseEntity<UserResponse> getCurrentUser(@CurrentUser User user) {
-        UserResponse userResponse = userService.getUserInfo(user);
+    public ResponseEntity<UserResponse> getCurrentUser(@CurrentUser String userId) {
+        UserResponse userResponse = userService.getUserInfo(userId);
         return ResponseEntity.ok(userResponse);
     }
 
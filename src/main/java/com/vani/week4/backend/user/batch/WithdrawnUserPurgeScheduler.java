@@ -0,0 +1,46 @@
+package com.vani.week4.backend.user.batch;
+
+import com.vani.week4.backend.global.lock.ClusterJobLock;
+import com.vani.week4.backend.user.service.WithdrawnUserPurgeService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 탈퇴 후 유예 기간이 지난 회원의 데이터를 매일 정리하는 스케쥴러
+ * 여러 인스턴스 중 잠금을 얻은 한 곳에서만 실행
+ * @author vani
+ * @since 10/17/26
+ */
+@Component
+public class WithdrawnUserPurgeScheduler {
+    private static final String JOB_NAME = "withdrawn-user-purge";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofHours(2);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(1);
+
+    private final WithdrawnUserPurgeService withdrawnUserPurgeService;
+    private final ClusterJobLock clusterJobLock;
+    private final int gracePeriodDays;
+    private final int batchSize;
+
+    public WithdrawnUserPurgeScheduler(
+            WithdrawnUserPurgeService withdrawnUserPurgeService,
+            ClusterJobLock clusterJobLock,
+            @Value("${user.purge.grace-period-days:7}") int gracePeriodDays,
+            @Value("${user.purge.batch-size:50}") int batchSize) {
+        this.withdrawnUserPurgeService = withdrawnUserPurgeService;
+        this.clusterJobLock = clusterJobLock;
+        this.gracePeriodDays = gracePeriodDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "0 0 3 * * *") // 매일 새벽 3시
+    public void purgeWithdrawnUsers() {
+        clusterJobLock.runExclusively(JOB_NAME, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, () ->
+                withdrawnUserPurgeService.purgeWithdrawnUsers(
+                        LocalDateTime.now().minusDays(gracePeriodDays), batchSize));
+    }
+}
@@ -0,0 +1,43 @@
+package com.vani.week4.backend.user.dto;
+
+import com.vani.week4.backend.user.entity.User;
+import com.vani.week4.backend.user.entity.UserRole;
+import com.vani.week4.backend.user.entity.UserStatus;
+
+/**
+ * 요청마다 캐시에서 꺼내 쓰는 가벼운 사용자 정보
+ * 엔티티 대신 불변 값만 캐시해서 영속성 컨텍스트와 무관하게 공유
+ * @author vani
+ * @since 10/17/26
+ */
+public record UserSnapshot(
+        String id,
+        String nickname,
+        String profileImageKey,
+        UserStatus userStatus,
+        UserRole userRole
+) {
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getNickname(),
+                user.getProfileImageKey(),
+                user.getUserStatus(),
+                user.getUserRole()
+        );
+    }
+
+    /**
+     * 컨트롤러에 넘길 준영속 User로 변환
+     * 연관관계 참조(id)와 조회용으로만 사용하고, 값을 수정하려면 다시 조회해야 함
+     */
+    public User toUser() {
+        return User.builder()
+                .id(id)
+                .nickname(nickname)
+                .profileImageKey(profileImageKey)
+                .userStatus(userStatus)
+                .userRole(userRole)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.vani.week4.backend.user.dto.projection;
+
+/**
+ * 내 정보 조회 전용 프로젝션
+ * users와 user_auths를 한번의 쿼리로 조인해서 화면에 필요한 값만 가져옴
+ * @author vani
+ * @since 10/17/26
+ */
+public record UserProfileProjection(
+        String userId,
+        String nickname,
+        String email,
+        String profileImageKey
+) {
+}
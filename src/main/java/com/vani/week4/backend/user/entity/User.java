@@ -19,7 +19,9 @@ import java.util.List;
 @Getter
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_nickname", columnNames = "nickname")
+})
 public class User {
     @Id
     @Column(length = 26)
@@ -71,6 +73,12 @@ public class User {
         this.userStatus = userStatus;
     }
 
+    // 탈퇴 시점부터 유예 기간이 지나면 배치에서 데이터를 정리
+    public void withdraw() {
+        this.userStatus = UserStatus.DELETED;
+        this.deletedAt = LocalDateTime.now();
+    }
+
     public boolean isActive() {
         return this.userStatus == UserStatus.ACTIVE;
     }
@@ -4,5 +4,6 @@ public enum UserStatus {
     ACTIVE,
     REPORTED,
     DELETED,
-    BLOCKED
+    BLOCKED,
+    PURGED // 탈퇴 후 개인 데이터 정리까지 끝난 상태
 }
@@ -1,7 +1,10 @@
 package com.vani.week4.backend.user.repository;
 
+import com.vani.week4.backend.user.dto.projection.UserProfileProjection;
 import com.vani.week4.backend.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,4 +17,13 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, String> {
     boolean existsByNickname(String nickname);
 
+    /**
+     * 내 정보 조회용, 유저와 이메일을 한번에 가져옴
+     */
+    @Query("SELECT new com.vani.week4.backend.user.dto.projection.UserProfileProjection(" +
+            "u.id, u.nickname, a.email, u.profileImageKey) " +
+            "FROM Auth a JOIN a.user u " +
+            "WHERE u.id = :userId")
+    Optional<UserProfileProjection> findProfileById(@Param("userId") String userId);
+
 }
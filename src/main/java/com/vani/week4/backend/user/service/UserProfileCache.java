@@ -0,0 +1,94 @@
+package com.vani.week4.backend.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vani.week4.backend.global.util.AfterCommit;
+import com.vani.week4.backend.user.dto.projection.UserProfileProjection;
+import com.vani.week4.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 내 정보(닉네임, 이메일, 프로필 이미지 키) 로컬 캐시
+ * 페이지를 열 때마다 호출되는 /users/me 에서 users, user_auths 조회를 줄이기 위함
+ * 프로필 이미지 URL은 S3Service가 따로 캐시하므로 키만 보관
+ * 수정/탈퇴가 커밋되면 Pub/Sub으로 다른 인스턴스의 캐시에서도 제거, 메시지를 놓치면 TTL 동안 옛 값이 보일 수 있음
+ * @author vani
+ * @since 10/17/26
+ */
+@Slf4j
+@Component
+public class UserProfileCache implements MessageListener {
+    public static final String INVALIDATION_CHANNEL = "user:profile:invalidations";
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final long MAX_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<String, UserProfileProjection> cache;
+
+    public UserProfileCache(
+            UserRepository userRepository,
+            @Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.profile");
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 내 정보를 캐시에서 가져오고, 없으면 한번의 조인 쿼리로 채움
+     * @return 사용자나 인증 정보가 없으면 null (캐시하지 않음)
+     */
+    public UserProfileProjection get(String userId) {
+        // 본인만 조회하는 값이므로 호출한 쪽의 라우팅을 따름
+        // 수정이 커밋되면 모든 인스턴스에서 캐시를 비우므로 다음 조회는 DB로 가고,
+        // 그 조회는 ReadYourWritesInterceptor가 primary로 고정하므로 복제 지연된 값이 다시 캐시되지 않음
+        return cache.get(userId, id -> userRepository.findProfileById(id).orElse(null));
+    }
+
+    /**
+     * 캐시에서 사용자를 제거, 트랜잭션 안이면 커밋 후에 한번 더 제거하고 다른 인스턴스에 전파
+     */
+    public void evict(String userId) {
+        cache.invalidate(userId);
+        AfterCommit.run(() -> {
+            cache.invalidate(userId);
+            publish(userId);
+        });
+    }
+
+    // 다른 인스턴스의 수정을 받아 로컬 캐시에서 제거
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void publish(String userId) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId);
+        } catch (Exception e) {
+            // 다른 인스턴스는 TTL이 지나면 DB 기준 값으로 돌아옴
+            log.warn("내 정보 캐시 무효화 전파 실패 - userId: {}", userId, e);
+        }
+    }
+}
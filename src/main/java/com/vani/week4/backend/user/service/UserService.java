@@ -2,6 +2,7 @@ package com.vani.week4.backend.user.service;
 
 import com.vani.week4.backend.auth.dto.request.SignUpRequest;
 import com.vani.week4.backend.auth.service.AuthService;
+import com.vani.week4.backend.auth.service.SignUpAvailabilityFilter;
 import com.vani.week4.backend.infra.S3.S3Service;
 import com.vani.week4.backend.user.dto.WithdrawRequest;
 import com.vani.week4.backend.auth.entity.Auth;
@@ -9,56 +10,101 @@ import com.vani.week4.backend.auth.entity.ProviderType;
 import com.vani.week4.backend.global.ErrorCode;
 import com.vani.week4.backend.global.exception.AuthNotFoundException;
 import com.vani.week4.backend.global.exception.InvalidPasswordException;
+import com.vani.week4.backend.global.exception.NicknameAlreadyExistsException;
 import com.vani.week4.backend.global.exception.UserNotFoundException;
+import com.vani.week4.backend.global.util.AfterCommit;
 import com.vani.week4.backend.user.dto.UserResponse;
 import com.vani.week4.backend.user.dto.UserUpdateRequest;
+import com.vani.week4.backend.user.dto.projection.UserProfileProjection;
 import com.vani.week4.backend.user.entity.User;
-import com.vani.week4.backend.user.entity.UserStatus;
 import com.vani.week4.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @author vani
  * @since 10/14/25
  */
+@Slf4j
 @Service
 public class UserService {
     private final UserRepository userRepository;
     private final AuthService authService;
     private final S3Service s3Service;
+    private final UserSnapshotCache userSnapshotCache;
+    private final UserProfileCache userProfileCache;
+    private final SignUpAvailabilityFilter signUpAvailabilityFilter;
+    private final TransactionTemplate transactionTemplate;
     //순환참조 해결용
     protected UserService(
             UserRepository userRepository,
             @Lazy AuthService authService,
-            S3Service s3Service
+            S3Service s3Service,
+            UserSnapshotCache userSnapshotCache,
+            UserProfileCache userProfileCache,
+            SignUpAvailabilityFilter signUpAvailabilityFilter,
+            TransactionTemplate transactionTemplate
     ) {
         this.userRepository = userRepository;
         this.authService = authService;
         this.s3Service = s3Service;
+        this.userSnapshotCache = userSnapshotCache;
+        this.userProfileCache = userProfileCache;
+        this.signUpAvailabilityFilter = signUpAvailabilityFilter;
+        this.transactionTemplate = transactionTemplate;
     }
     //TODO 테이블 수정 필요 User-UserAuth 이메일....
-    public UserResponse getUserInfo(User user) {
-        String key = user.getProfileImageKey();
-        String email = authService.getEmailFromUserId(user.getId());
+    /**
+     * 내 정보를 조회하는 메서드
+     * 유저와 이메일을 한번의 쿼리로 읽어 캐시해두고, 수정/탈퇴 시 캐시에서 제거
+     * readOnly 트랜잭션이므로 캐시 미스는 replica에서 조회
+     * */
+    @Transactional(readOnly = true)
+    public UserResponse getUserInfo(String userId) {
+        UserProfileProjection profile = userProfileCache.get(userId);
+        if (profile == null) {
+            throw new UserNotFoundException(ErrorCode.RESOURCE_NOT_FOUND);
+        }
+
+        String key = profile.profileImageKey();
         String presignedGetUrl = (key != null && !key.isBlank())
                 ? s3Service.createPresignedGetUrl(key)
                 : null;
-        return new UserResponse(user.getNickname(), email, presignedGetUrl);
+        return new UserResponse(profile.nickname(), profile.email(), presignedGetUrl);
     }
 
+    /**
+     * 유저 정보를 수정하는 메서드
+     * 컨트롤러로 들어온 User는 캐시에서 만든 준영속 객체이므로 다시 조회해서 수정
+     * */
     @Transactional
-    public void updateUser(User user, UserUpdateRequest request) {
+    public void updateUser(User currentUser, UserUpdateRequest request) {
+        User user = userRepository.findById(currentUser.getId())
+                .orElseThrow(() -> new UserNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
 
-        if (request.nickname() != null) {
+        if (request.nickname() != null && !request.nickname().equals(user.getNickname())) {
+            // 필터는 전파를 놓칠 수 있으므로 DB로 확인하고, 동시 변경은 유니크 제약에서 걸러냄
+            if (userRepository.existsByNickname(request.nickname())) {
+                throw new NicknameAlreadyExistsException(ErrorCode.RESOURCE_CONFLICT);
+            }
             user.updateNickname(request.nickname());
+            try {
+                userRepository.flush();
+            } catch (DataIntegrityViolationException e) {
+                throw new NicknameAlreadyExistsException(ErrorCode.RESOURCE_CONFLICT);
+            }
+            signUpAvailabilityFilter.addNickname(request.nickname());
         }
 
         if (request.profileImageKey() != null) {
             user.updateProfileImageKey(request.profileImageKey());
         }
+        evictUserCaches(user.getId());
     }
 
     @Transactional
@@ -75,14 +121,33 @@ public class UserService {
     /**
      * 유저를 소프트 delete하는 메서드
      * */
-    // TODO : 실제 삭제를 배치 처리해야함
-    @Transactional
+    // 실제 데이터 정리는 유예 기간 후 WithdrawnUserPurgeScheduler에서 처리
+    // 비밀번호 비교(BCrypt) 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 전에 확인
     public void withdrawUser(String userId, WithdrawRequest request){
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
 
         authService.checkPassword(user, request.password());
 
-        user.updateUserStatus(UserStatus.DELETED);
+        transactionTemplate.executeWithoutResult(status -> {
+            User managed = userRepository.findById(userId)
+                    .orElseThrow(() -> new UserNotFoundException(ErrorCode.RESOURCE_NOT_FOUND));
+            managed.withdraw();
+            evictUserCaches(userId);
+            // 탈퇴 후에는 남아있는 토큰으로 접근하지 못하도록 모두 폐기
+            // 커밋이 실패하면 활성 상태로 남으므로 커밋 후에 폐기
+            AfterCommit.run(() -> {
+                try {
+                    authService.revokeAllTokens(userId);
+                } catch (Exception e) {
+                    log.error("탈퇴 회원 토큰 폐기 실패 - userId: {}", userId, e);
+                }
+            });
+        });
+    }
+
+    private void evictUserCaches(String userId) {
+        userSnapshotCache.evict(userId);
+        userProfileCache.evict(userId);
     }
 }
@@ -0,0 +1,95 @@
+package com.vani.week4.backend.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vani.week4.backend.global.datasource.DataSourceRouting;
+import com.vani.week4.backend.global.util.AfterCommit;
+import com.vani.week4.backend.user.dto.UserSnapshot;
+import com.vani.week4.backend.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 인증된 사용자 정보를 잠깐 들고 있는 로컬 캐시
+ * 매 요청마다 하던 users PK 조회를 줄이기 위함
+ * 인가와 응답(작성자 닉네임, 프로필 이미지)에 쓰이므로 수정/탈퇴가 커밋되면 Pub/Sub으로 다른 인스턴스의 캐시에서도 제거
+ * 메시지를 놓친 경우에 대비해 TTL을 짧게 유지
+ * @author vani
+ * @since 10/17/26
+ */
+@Slf4j
+@Component
+public class UserSnapshotCache implements MessageListener {
+    public static final String INVALIDATION_CHANNEL = "user:snapshot:invalidations";
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final long MAX_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<String, UserSnapshot> cache;
+
+    public UserSnapshotCache(
+            UserRepository userRepository,
+            @Qualifier("redisTemplate") RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry
+    ) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(TTL)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.snapshot");
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 사용자 정보를 캐시에서 가져오고, 없으면 DB에서 조회해서 채움
+     * @return 사용자가 없으면 null (캐시하지 않음)
+     */
+    public UserSnapshot get(String userId) {
+        return cache.get(userId, id -> DataSourceRouting.callOnPrimary(() -> userRepository.findById(id)
+                .map(UserSnapshot::from)
+                .orElse(null)));
+    }
+
+    /**
+     * 캐시에서 사용자를 제거
+     * 트랜잭션 안이면 커밋 전에 다른 요청이 옛 값을 다시 채울 수 있으므로 커밋 후에 한번 더 제거하고 다른 인스턴스에 전파
+     */
+    public void evict(String userId) {
+        cache.invalidate(userId);
+        AfterCommit.run(() -> {
+            cache.invalidate(userId);
+            publish(userId);
+        });
+    }
+
+    // 다른 인스턴스의 수정/탈퇴를 받아 로컬 캐시에서 제거
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void publish(String userId) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, userId);
+        } catch (Exception e) {
+            // 다른 인스턴스는 TTL이 지나면 DB 기준 값으로 돌아옴
+            log.warn("사용자 캐시 무효화 전파 실패 - userId: {}", userId, e);
+        }
+    }
+}
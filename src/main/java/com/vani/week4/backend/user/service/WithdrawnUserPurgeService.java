@@ -0,0 +1,234 @@
+package com.vani.week4.backend.user.service;
+
+import com.vani.week4.backend.interaction.service.LikeService;
+import com.vani.week4.backend.post.repository.PostBulkRepository;
+import com.vani.week4.backend.post.service.FeedHeadCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 탈퇴 회원 데이터 정리
+ * 좋아요 -> 게시글 -> 댓글 -> 인증 정보 순으로 청크 단위로 정리하고, 마지막에 유저 행을 익명화
+ * 다른 회원 게시글의 댓글은 다른 회원의 답글이 가리킬 수 있으므로 지우지 않고 내용만 비움
+ * 청크마다 짧은 트랜잭션으로 커밋하므로 중간에 실패해도 다음 실행에서 남은 데이터부터 이어서 처리
+ * 유저 행은 다른 곳에서 참조할 수 있어 지우지 않고 닉네임, 프로필을 비운 PURGED 상태로 남김
+ * @author vani
+ * @since 10/17/26
+ */
+@Slf4j
+@Service
+public class WithdrawnUserPurgeService {
+    private static final int LIKE_CHUNK_SIZE = 500;
+    private static final int POST_CHUNK_SIZE = 100;
+    private static final int COMMENT_CHUNK_SIZE = 500;
+    // 닉네임은 유니크하므로 id 끝자리를 붙여 구분, 컬럼 길이(10) 안에 맞춤
+    private static final String PURGED_NICKNAME_PREFIX = "탈퇴";
+
+    private static final String SELECT_CANDIDATES_SQL =
+            "SELECT id FROM users " +
+            "WHERE user_status = 'DELETED' AND (deleted_at IS NULL OR deleted_at < ?) AND id > ? " +
+            "ORDER BY id LIMIT ?";
+
+    private static final String SELECT_LIKED_POSTS_SQL =
+            "SELECT post_id FROM user_post_like WHERE user_id = ? LIMIT ?";
+    private static final String DELETE_LIKES_SQL =
+            "DELETE FROM user_post_like WHERE user_id = :userId AND post_id IN (:postIds)";
+    private static final String DECREASE_LIKE_COUNT_SQL =
+            "UPDATE posts SET like_count = GREATEST(like_count - 1, 0) WHERE id IN (:postIds)";
+
+    private static final String SELECT_POSTS_SQL =
+            "SELECT id FROM posts WHERE user_id = ? ORDER BY id LIMIT ?";
+
+    private static final String PURGED_COMMENT_CONTENT = "삭제된 댓글입니다.";
+    private static final String SELECT_COMMENTS_SQL =
+            "SELECT id FROM comment WHERE user_id = ? AND deleted_at IS NULL LIMIT ?";
+    private static final String SCRUB_COMMENTS_SQL =
+            "UPDATE comment SET content = :content, comment_status = 'DELETED', deleted_at = :deletedAt " +
+            "WHERE id IN (:commentIds)";
+
+    private static final String DELETE_AUTHS_SQL =
+            "DELETE FROM user_auths WHERE user_id = ?";
+    private static final String ANONYMIZE_USER_SQL =
+            "UPDATE users SET nickname = ?, profile_image_key = NULL, user_status = 'PURGED', updated_at = ? " +
+            "WHERE id = ? AND user_status = 'DELETED'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostBulkRepository postBulkRepository;
+    private final LikeService likeService;
+    private final FeedHeadCache feedHeadCache;
+    private final UserSnapshotCache userSnapshotCache;
+    private final UserProfileCache userProfileCache;
+
+    private final Counter purgedUserCounter;
+    private final Counter failedUserCounter;
+    private final Counter purgedLikeCounter;
+    private final Counter purgedPostCounter;
+    private final Counter purgedCommentCounter;
+
+    public WithdrawnUserPurgeService(
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            PostBulkRepository postBulkRepository,
+            LikeService likeService,
+            FeedHeadCache feedHeadCache,
+            UserSnapshotCache userSnapshotCache,
+            UserProfileCache userProfileCache,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.postBulkRepository = postBulkRepository;
+        this.likeService = likeService;
+        this.feedHeadCache = feedHeadCache;
+        this.userSnapshotCache = userSnapshotCache;
+        this.userProfileCache = userProfileCache;
+
+        this.purgedUserCounter = Counter.builder("user.purge.users").register(meterRegistry);
+        this.failedUserCounter = Counter.builder("user.purge.failures").register(meterRegistry);
+        this.purgedLikeCounter = Counter.builder("user.purge.rows").tag("type", "like").register(meterRegistry);
+        this.purgedPostCounter = Counter.builder("user.purge.rows").tag("type", "post").register(meterRegistry);
+        this.purgedCommentCounter = Counter.builder("user.purge.rows").tag("type", "comment").register(meterRegistry);
+    }
+
+    /**
+     * 탈퇴 후 유예 기간이 지난 회원을 id 순으로 훑어서 정리
+     * 실패한 회원은 건너뛰고 다음 실행에서 다시 시도
+     * @param withdrawnBefore : 이 시각 이전에 탈퇴한 회원만 대상
+     * @param batchSize : 한번에 조회할 회원 수
+     */
+    public void purgeWithdrawnUsers(LocalDateTime withdrawnBefore, int batchSize) {
+        String lastUserId = "";
+        int purged = 0;
+        int failed = 0;
+
+        while (true) {
+            List<String> userIds = jdbcTemplate.queryForList(
+                    SELECT_CANDIDATES_SQL, String.class, Timestamp.valueOf(withdrawnBefore), lastUserId, batchSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            for (String userId : userIds) {
+                try {
+                    purgeUser(userId);
+                    purged++;
+                } catch (Exception e) {
+                    failedUserCounter.increment();
+                    failed++;
+                    log.error("탈퇴 회원 정리 실패, 다음 실행에서 재시도 : userId={}", userId, e);
+                }
+            }
+            lastUserId = userIds.getLast();
+        }
+        log.info("탈퇴 회원 정리 완료 : 처리 수: {}, 실패 수: {}", purged, failed);
+    }
+
+    private void purgeUser(String userId) {
+        int likes = purgeLikes(userId);
+        int posts = purgePosts(userId);
+        if (posts > 0) {
+            feedHeadCache.invalidate();
+        }
+        int comments = purgeComments(userId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_AUTHS_SQL, userId);
+            jdbcTemplate.update(ANONYMIZE_USER_SQL, purgedNickname(userId), Timestamp.valueOf(LocalDateTime.now()), userId);
+        });
+        userSnapshotCache.evict(userId);
+        userProfileCache.evict(userId);
+
+        purgedUserCounter.increment();
+        log.debug("탈퇴 회원 정리 : userId={}, 좋아요: {}, 게시글: {}, 댓글: {}", userId, likes, posts, comments);
+    }
+
+    // 회원이 누른 좋아요 삭제, 다른 회원 게시글의 좋아요 수도 함께 줄임
+    private int purgeLikes(String userId) {
+        int total = 0;
+        while (true) {
+            List<String> postIds = jdbcTemplate.queryForList(
+                    SELECT_LIKED_POSTS_SQL, String.class, userId, LIKE_CHUNK_SIZE);
+            if (postIds.isEmpty()) {
+                return total;
+            }
+
+            MapSqlParameterSource params = new MapSqlParameterSource("userId", userId)
+                    .addValue("postIds", postIds);
+            transactionTemplate.executeWithoutResult(status -> {
+                namedParameterJdbcTemplate.update(DELETE_LIKES_SQL, params);
+                namedParameterJdbcTemplate.update(DECREASE_LIKE_COUNT_SQL, params);
+            });
+            // DB 반영 후 캐시 정리, 실패해도 DB 기준으로 다시 적재되므로 정리를 멈추지 않음
+            try {
+                likeService.removeUserLikes(userId, postIds);
+            } catch (Exception e) {
+                log.warn("좋아요 캐시 정리 실패 : userId={}", userId, e);
+            }
+
+            purgedLikeCounter.increment(postIds.size());
+            total += postIds.size();
+        }
+    }
+
+    // 회원이 쓴 게시글과 그 댓글, 좋아요 삭제
+    private int purgePosts(String userId) {
+        int total = 0;
+        while (true) {
+            List<String> postIds = jdbcTemplate.queryForList(
+                    SELECT_POSTS_SQL, String.class, userId, POST_CHUNK_SIZE);
+            if (postIds.isEmpty()) {
+                return total;
+            }
+
+            int deleted = postBulkRepository.deleteAllByIds(postIds);
+            try {
+                likeService.clearPostLikes(postIds);
+            } catch (Exception e) {
+                log.warn("삭제된 게시글의 좋아요 캐시 정리 실패 : userId={}", userId, e);
+            }
+
+            purgedPostCounter.increment(deleted);
+            total += deleted;
+        }
+    }
+
+    // 다른 회원 게시글에 남긴 댓글은 행을 남기고 내용만 비움
+    // 지우면 다른 회원의 답글이 사라진 부모를 가리켜 목록에서 빠지고 게시글 댓글 수와도 어긋남
+    private int purgeComments(String userId) {
+        int total = 0;
+        while (true) {
+            List<String> commentIds = jdbcTemplate.queryForList(
+                    SELECT_COMMENTS_SQL, String.class, userId, COMMENT_CHUNK_SIZE);
+            if (commentIds.isEmpty()) {
+                return total;
+            }
+
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("content", PURGED_COMMENT_CONTENT)
+                    .addValue("deletedAt", Timestamp.valueOf(LocalDateTime.now()))
+                    .addValue("commentIds", commentIds);
+            transactionTemplate.executeWithoutResult(status ->
+                    namedParameterJdbcTemplate.update(SCRUB_COMMENTS_SQL, params));
+
+            purgedCommentCounter.increment(commentIds.size());
+            total += commentIds.size();
+        }
+    }
+
+    private String purgedNickname(String userId) {
+        return PURGED_NICKNAME_PREFIX + userId.substring(userId.length() - 8);
+    }
+}
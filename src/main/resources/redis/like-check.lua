@@ -0,0 +1,9 @@
+-- 좋아요 여부 확인
+-- KEYS[1] 좋아요 유저 Set, ARGV[1] userId, ARGV[2] Set TTL(ms)
+-- return -1: Set이 로드되지 않음(DB로 확인), 1: 좋아요함, 0: 안함
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+-- 자주 조회되는 게시글의 Set은 만료되지 않도록 연장
+redis.call('PEXPIRE', KEYS[1], ARGV[2])
+return redis.call('SISMEMBER', KEYS[1], ARGV[1])
@@ -0,0 +1,8 @@
+-- 좋아요 수가 캐시되어 있을 때만 증감, 없는 키를 증감하면 실제 수와 무관한 1, -1이 생김
+-- KEYS[1] 좋아요 수
+-- ARGV[1] 증감량
+-- return 증감 후 값, 캐시되지 않았으면 nil
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return nil
+end
+return redis.call('INCRBY', KEYS[1], ARGV[1])
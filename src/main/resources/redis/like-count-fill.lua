@@ -0,0 +1,19 @@
+-- 좋아요 수 캐시 미스 후 되돌려 쓰기, 그 사이 토글이 먼저 쓴 값은 덮지 않음
+-- KEYS[1] 좋아요 수, KEYS[2] 좋아요 유저 Set
+-- ARGV[1] DB에서 센 좋아요 수, ARGV[2] DB 값으로 채울 때의 TTL(ms)
+-- return 캐시에 남은 좋아요 수
+local current = redis.call('GET', KEYS[1])
+if current then
+    return tonumber(current)
+end
+
+-- Set이 로드되어 있으면 DB 반영 대기분까지 포함된 Set 크기가 기준 (센티널 멤버 제외)
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    local count = redis.call('SCARD', KEYS[2]) - 1
+    redis.call('SET', KEYS[1], count)
+    return count
+end
+
+-- DB 값은 세는 도중 커밋된 토글을 놓쳤을 수 있으므로 TTL을 두어 다시 세도록 함
+redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+return tonumber(ARGV[1])
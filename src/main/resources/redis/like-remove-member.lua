@@ -0,0 +1,16 @@
+-- 탈퇴 회원의 좋아요를 캐시에서 제거 (DB에서 먼저 삭제한 뒤 호출)
+-- KEYS[1] 좋아요 유저 Set, KEYS[2] 좋아요 수
+-- ARGV[1] userId
+-- return 1: Set에서 제거, 0: Set에 없었거나 로드되지 않음
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    if redis.call('SREM', KEYS[1], ARGV[1]) == 1 then
+        -- 센티널 멤버 제외
+        redis.call('SET', KEYS[2], redis.call('SCARD', KEYS[1]) - 1)
+        return 1
+    end
+    return 0
+end
+
+-- Set이 없으면 수가 DB 기준으로 캐시된 값이므로 지워서 다음 조회 때 다시 세도록 함
+redis.call('DEL', KEYS[2])
+return 0
@@ -0,0 +1,23 @@
+-- 좋아요 토글: 멤버십 Set 변경, 좋아요 수 갱신, DB 반영 대기 기록을 한번에 원자적으로 처리
+-- KEYS[1] 좋아요 유저 Set, KEYS[2] 좋아요 수, KEYS[3] DB 반영 대기 Hash, KEYS[4] 동기화 대상 게시글 Set
+-- ARGV[1] userId, ARGV[2] 대기 Hash 필드(userId:postId), ARGV[3] postId, ARGV[4] Set TTL(ms)
+-- return -1: Set이 로드되지 않음(DB에서 로드 후 재시도), 1: 좋아요, 0: 좋아요 취소
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+
+local liked
+if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+    redis.call('SREM', KEYS[1], ARGV[1])
+    liked = 0
+else
+    redis.call('SADD', KEYS[1], ARGV[1])
+    liked = 1
+end
+
+-- 센티널 멤버 제외
+redis.call('SET', KEYS[2], redis.call('SCARD', KEYS[1]) - 1)
+redis.call('HSET', KEYS[3], ARGV[2], liked)
+redis.call('SADD', KEYS[4], ARGV[3])
+redis.call('PEXPIRE', KEYS[1], ARGV[4])
+return liked
@@ -0,0 +1,22 @@
+-- DB에서 읽은 좋아요 유저 목록으로 Set을 채움, 이미 로드되어 있으면 아무것도 하지 않음
+-- KEYS[1] 좋아요 유저 Set
+-- ARGV[1] Set TTL(ms), ARGV[2] 센티널 멤버, ARGV[3..] userId
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+
+-- unpack 인자 수 제한을 피하기 위해 나눠서 추가
+local batch = {}
+for i = 2, #ARGV do
+    batch[#batch + 1] = ARGV[i]
+    if #batch == 1000 then
+        redis.call('SADD', KEYS[1], unpack(batch))
+        batch = {}
+    end
+end
+if #batch > 0 then
+    redis.call('SADD', KEYS[1], unpack(batch))
+end
+-- 한번 열어본 게시글의 Set이 계속 쌓이지 않도록 TTL, 토글/확인할 때마다 연장
+redis.call('PEXPIRE', KEYS[1], ARGV[1])
+return 1
@@ -0,0 +1,19 @@
+-- 리프레시 토큰 교체: 기존 세션이 살아있을 때만 지우고 새 세션을 저장
+-- KEYS[1] auth:sessions:{userId}
+-- ARGV[1] 기존 jti, ARGV[2] 새 jti, ARGV[3] 새 만료 시각(ms), ARGV[4] 키 TTL(ms)
+-- 반환 1: 교체, 0: 없거나 만료된 세션
+local expiresAt = redis.call('HGET', KEYS[1], ARGV[1])
+if not expiresAt then
+    return 0
+end
+redis.call('HDEL', KEYS[1], ARGV[1])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+if tonumber(expiresAt) <= now then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+redis.call('PEXPIRE', KEYS[1], ARGV[4])
+return 1
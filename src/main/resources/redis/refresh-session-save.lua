@@ -0,0 +1,21 @@
+-- 리프레시 토큰 세션 저장, 기기 수가 한도를 넘으면 가장 먼저 만료되는 세션부터 제거
+-- KEYS[1] auth:sessions:{userId}
+-- ARGV[1] jti, ARGV[2] 만료 시각(ms), ARGV[3] 키 TTL(ms), ARGV[4] 최대 세션 수
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+
+local max = tonumber(ARGV[4])
+if redis.call('HLEN', KEYS[1]) <= max then
+    return 1
+end
+
+local entries = redis.call('HGETALL', KEYS[1])
+local sessions = {}
+for i = 1, #entries, 2 do
+    table.insert(sessions, { entries[i], tonumber(entries[i + 1]) })
+end
+table.sort(sessions, function(a, b) return a[2] < b[2] end)
+for i = 1, #sessions - max do
+    redis.call('HDEL', KEYS[1], sessions[i][1])
+end
+return 1
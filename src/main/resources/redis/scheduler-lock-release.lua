@@ -0,0 +1,10 @@
+-- 스케쥴러 잠금 해제: 내가 잡은 잠금일 때만 해제
+-- KEYS[1] 잠금 키
+-- ARGV[1] 잠금 토큰, ARGV[2] 최소 유지 시간 중 남은 ms (0이면 바로 삭제)
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+if tonumber(ARGV[2]) > 0 then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return redis.call('DEL', KEYS[1])
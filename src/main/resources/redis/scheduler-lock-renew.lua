@@ -0,0 +1,7 @@
+-- 스케쥴러 잠금 연장: 아직 내가 잡고 있는 잠금일 때만 만료 시간을 다시 설정
+-- KEYS[1] 잠금 키
+-- ARGV[1] 잠금 토큰, ARGV[2] 연장할 ms
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+return redis.call('PEXPIRE', KEYS[1], ARGV[2])
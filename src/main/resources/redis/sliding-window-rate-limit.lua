@@ -0,0 +1,20 @@
+-- 슬라이딩 윈도우 요청 제한: 모든 키가 한도 안일 때만 요청을 기록
+-- KEYS[i] 제한 키(ZSET, score = 요청 시각 ms)
+-- ARGV[1] 윈도우 ms, ARGV[2] 요청 식별자, ARGV[2 + i] KEYS[i]의 한도
+-- 반환 1: 허용, 0: 거절
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local window = tonumber(ARGV[1])
+
+for i, key in ipairs(KEYS) do
+    redis.call('ZREMRANGEBYSCORE', key, 0, now - window)
+    if redis.call('ZCARD', key) >= tonumber(ARGV[2 + i]) then
+        return 0
+    end
+end
+
+for _, key in ipairs(KEYS) do
+    redis.call('ZADD', key, now, ARGV[2])
+    redis.call('PEXPIRE', key, window)
+end
+return 1
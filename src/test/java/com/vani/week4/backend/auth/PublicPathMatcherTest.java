@@ -0,0 +1,82 @@
+package com.vani.week4.backend.auth;
+
+import com.vani.week4.backend.auth.security.PublicPathMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 인증 제외 경로 매처 테스트
+ * @author vani
+ */
+@Tag("unit")
+class PublicPathMatcherTest {
+
+    private static final List<String> PATTERNS = List.of(
+            "/api/v1/auth/users", "/api/v1/auth/tokens", "/health",
+            "/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**", "/api/loadtest/**"
+    );
+
+    private PublicPathMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        matcher = new PublicPathMatcher(PATTERNS);
+    }
+
+    @Test
+    @DisplayName("정확히 일치하는 경로만 허용")
+    void exactPaths() {
+        assertThat(matcher.matches("/api/v1/auth/users")).isTrue();
+        assertThat(matcher.matches("/health")).isTrue();
+
+        assertThat(matcher.matches("/api/v1/auth/users/1")).isFalse();
+        assertThat(matcher.matches("/healthz")).isFalse();
+        assertThat(matcher.matches("/api/v1/posts")).isFalse();
+    }
+
+    @Test
+    @DisplayName("/** 패턴은 prefix 자신과 하위 경로만 허용")
+    void prefixPaths() {
+        assertThat(matcher.matches("/swagger-ui")).isTrue();
+        assertThat(matcher.matches("/swagger-ui/")).isTrue();
+        assertThat(matcher.matches("/swagger-ui/index.html")).isTrue();
+        assertThat(matcher.matches("/v3/api-docs/swagger-config")).isTrue();
+
+        assertThat(matcher.matches("/swagger-uix")).isFalse();
+        assertThat(matcher.matches("/v3/api")).isFalse();
+        assertThat(matcher.matches("/")).isFalse();
+        assertThat(matcher.matches("")).isFalse();
+        assertThat(matcher.matches(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("AntPathMatcher와 같은 결과")
+    void sameAsAntPathMatcher() {
+        AntPathMatcher antPathMatcher = new AntPathMatcher();
+        List<String> paths = List.of(
+                "/api/v1/auth/users", "/api/v1/auth/tokens/", "/api/loadtest", "/api/loadtest/run/1",
+                "/api/loadtests", "/swagger-ui.html", "/swagger-ui.htm", "/v3/api-docs", "/health/",
+                "/api/v1/posts/01HX", "/스웨거"
+        );
+
+        for (String path : paths) {
+            boolean expected = PATTERNS.stream().anyMatch(pattern -> antPathMatcher.match(pattern, path));
+            assertThat(matcher.matches(path)).as(path).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 와일드카드는 시작할 때 실패")
+    void unsupportedPattern() {
+        assertThatThrownBy(() -> new PublicPathMatcher(List.of("/api/*/posts")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,142 @@
+package com.vani.week4.backend.auth;
+
+import com.vani.week4.backend.auth.security.AccessTokenClaims;
+import com.vani.week4.backend.auth.security.TokenRevocationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 토큰 폐기 확인 테스트
+ * - 필터 준비 전/후에 Redis 조회가 실패했을 때의 처리 확인
+ * @author vani
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+    private static final String TOKENS_KEY = "auth:revoked:tokens";
+    private static final String USERS_KEY = "auth:revoked:users";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("필터 준비 전에는 Redis로 확인")
+    void notReadyChecksRedis() {
+        TokenRevocationService service = service(60_000);
+        when(zSetOperations.score(TOKENS_KEY, "revoked-jti")).thenReturn(1.0);
+        when(zSetOperations.score(TOKENS_KEY, "other-jti")).thenReturn(null);
+        when(zSetOperations.score(USERS_KEY, "user-1")).thenReturn(null);
+
+        assertThat(service.isRevoked(claims("revoked-jti"))).isTrue();
+        assertThat(service.isRevoked(claims("other-jti"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("필터 준비 전 Redis 장애 : 제한 시간 동안은 통과시키고 카운트")
+    void notReadyRedisFailureFailsOpen() {
+        TokenRevocationService service = service(60_000);
+        when(zSetOperations.score(anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(service.isRevoked(claims("jti-1"))).isFalse();
+        assertThat(service.isRevoked(claims("jti-2"))).isFalse();
+        assertThat(counter("auth.revocation.fail-open")).isEqualTo(2);
+        assertThat(counter("auth.revocation.fail-closed")).isZero();
+    }
+
+    @Test
+    @DisplayName("필터 준비 전 Redis 장애가 제한 시간을 넘기면 폐기로 처리")
+    void notReadyRedisFailureFailsClosedAfterLimit() {
+        TokenRevocationService service = service(0);
+        when(zSetOperations.score(anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(service.isRevoked(claims("jti-1"))).isTrue();
+        assertThat(counter("auth.revocation.fail-closed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필터 준비 후에는 필터에 없는 토큰은 Redis 장애와 무관하게 통과")
+    void readyFilterMissSkipsRedis() {
+        TokenRevocationService service = readyService("revoked-jti");
+
+        assertThat(service.isRevoked(claims("other-jti"))).isFalse();
+        verify(zSetOperations, never()).score(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("필터 준비 후 필터에 걸린 토큰은 Redis 장애 시 필터 결과로 폐기 처리")
+    void readyFilterHitRedisFailureUsesFilter() {
+        TokenRevocationService service = readyService("revoked-jti");
+        when(zSetOperations.score(anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(service.isRevoked(claims("revoked-jti"))).isTrue();
+        assertThat(counter("auth.revocation.fail-closed")).isEqualTo(1);
+        assertThat(counter("auth.revocation.fail-open")).isZero();
+    }
+
+    private TokenRevocationService service(long failOpenMs) {
+        return new TokenRevocationService(redisTemplate, listenerContainer, meterRegistry, 1_800_000, failOpenMs);
+    }
+
+    @SuppressWarnings("unchecked")
+    private TokenRevocationService readyService(String revokedJti) {
+        when(zSetOperations.removeRangeByScore(anyString(), anyDouble(), anyDouble())).thenReturn(0L);
+        when(zSetOperations.zCard(TOKENS_KEY)).thenReturn(1L);
+        when(zSetOperations.zCard(USERS_KEY)).thenReturn(0L);
+
+        Cursor<ZSetOperations.TypedTuple<String>> tokens = mock(Cursor.class);
+        when(tokens.hasNext()).thenReturn(true, false);
+        when(tokens.next()).thenReturn(ZSetOperations.TypedTuple.of(revokedJti, 1.0));
+        Cursor<ZSetOperations.TypedTuple<String>> users = mock(Cursor.class);
+        when(users.hasNext()).thenReturn(false);
+        when(zSetOperations.scan(eq(TOKENS_KEY), any())).thenReturn(tokens);
+        when(zSetOperations.scan(eq(USERS_KEY), any())).thenReturn(users);
+
+        TokenRevocationService service = service(60_000);
+        service.rebuild();
+        return service;
+    }
+
+    private AccessTokenClaims claims(String jti) {
+        long now = System.currentTimeMillis();
+        return new AccessTokenClaims("user-1", null, jti, now, now + 1_800_000);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+}
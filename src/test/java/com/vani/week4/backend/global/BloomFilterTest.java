@@ -0,0 +1,66 @@
+package com.vani.week4.backend.global;
+
+import com.vani.week4.backend.global.util.BloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Bloom 필터 테스트
+ * @author vani
+ */
+@Tag("unit")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 포함")
+    void noFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("jti:" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("jti:" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("오탐률이 목표 근처")
+    void falsePositiveRateIsBounded() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        int trials = 100_000;
+        for (int i = 0; i < trials; i++) {
+            if (filter.mightContain("other:" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat((double) falsePositives / trials).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("빈 필터는 아무것도 포함하지 않음")
+    void emptyFilter() {
+        BloomFilter filter = BloomFilter.create(100, 0.01);
+
+        assertThat(filter.mightContain("")).isFalse();
+        assertThat(filter.mightContain("user:01HX")).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 크기 설정은 실패")
+    void invalidArguments() {
+        assertThatThrownBy(() -> BloomFilter.create(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,126 @@
+package com.vani.week4.backend.global;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import com.vani.week4.backend.comment.entity.Comment;
+import com.vani.week4.backend.comment.repository.CommentRepository;
+import com.vani.week4.backend.comment.service.CommentService;
+import com.vani.week4.backend.global.datasource.ReadWriteRoutingDataSource;
+import com.vani.week4.backend.post.repository.PostRepository;
+import com.vani.week4.backend.post.service.FeedHeadCache;
+import com.vani.week4.backend.post.service.PostService;
+import com.vani.week4.backend.user.dto.projection.UserProfileProjection;
+import com.vani.week4.backend.user.entity.User;
+import com.vani.week4.backend.user.repository.UserRepository;
+import com.vani.week4.backend.user.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * 조회 API의 repository 호출이 replica로 라우팅되는지 확인하는 테스트
+ * - repository를 목으로 바꾸고, 호출되는 순간의 라우팅 키를 기록
+ *
+ * @author vani
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserService userService;
+
+    @MockBean
+    private PostRepository postRepository;
+
+    @MockBean
+    private CommentRepository commentRepository;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private FeedHeadCache feedHeadCache;
+
+    private final ReadWriteRoutingDataSourceTest.TestRoutingDataSource routing =
+            new ReadWriteRoutingDataSourceTest.TestRoutingDataSource();
+    private final List<String> keys = new ArrayList<>();
+
+    @Test
+    @DisplayName("게시글 목록 조회는 replica")
+    void getPostsUsesReplica() {
+        when(feedHeadCache.getPage(any(), any(), eq(10))).thenReturn(null);
+        when(postRepository.findSummariesByCursor(any(), any(), any()))
+                .thenAnswer(recordKey(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false)));
+
+        postService.getPosts(null, null, 10);
+
+        assertThat(keys).containsExactly(ReadWriteRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    @DisplayName("댓글 목록 조회는 replica")
+    void getCommentsUsesReplica() {
+        String postId = UlidCreator.getUlid().toString();
+        User author = User.createUser(UlidCreator.getUlid().toString(), "작성자", null);
+        String commentId = UlidCreator.getUlid().toString();
+        Comment comment = Comment.builder()
+                .id(commentId)
+                .user(author)
+                .depth(0)
+                .commentGroup(commentId)
+                .content("댓글")
+                .build();
+
+        when(postRepository.existsById(postId)).thenAnswer(recordKey(true));
+        when(commentRepository.findTopLevelComments(eq(postId), any(), any(), any()))
+                .thenAnswer(recordKey(new SliceImpl<>(List.of(comment), PageRequest.of(0, 10), false)));
+        when(commentRepository.findRepliesByCommentGroupIn(any()))
+                .thenAnswer(recordKey(List.of()));
+
+        commentService.getComments(postId, null, null, 10);
+
+        assertThat(keys).hasSize(3)
+                .containsOnly(ReadWriteRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    @DisplayName("내 정보 조회의 캐시 미스는 replica")
+    void getUserInfoUsesReplica() {
+        String userId = UlidCreator.getUlid().toString();
+        when(userRepository.findProfileById(anyString()))
+                .thenAnswer(recordKey(Optional.of(new UserProfileProjection(userId, "닉네임", "user@test.com", null))));
+
+        userService.getUserInfo(userId);
+
+        assertThat(keys).containsExactly(ReadWriteRoutingDataSource.REPLICA);
+    }
+
+    private <T> Answer<T> recordKey(T result) {
+        return invocation -> {
+            keys.add(routing.currentKey());
+            return result;
+        };
+    }
+}
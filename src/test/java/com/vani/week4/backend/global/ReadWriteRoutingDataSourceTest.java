@@ -0,0 +1,119 @@
+package com.vani.week4.backend.global;
+
+import com.vani.week4.backend.global.datasource.DataSourceRouting;
+import com.vani.week4.backend.global.datasource.ReadWriteRoutingDataSource;
+import com.vani.week4.backend.global.datasource.ReadYourWritesInterceptor;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 테스트
+ * @author vani
+ */
+@Tag("unit")
+class ReadWriteRoutingDataSourceTest {
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private final TestRoutingDataSource dataSource = new TestRoutingDataSource();
+    private final ReadYourWritesInterceptor interceptor = new ReadYourWritesInterceptor(WINDOW);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        DataSourceRouting.clear();
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica")
+    void readOnlyTransactionUsesReplica() {
+        beginTransaction(true);
+
+        assertThat(dataSource.currentKey()).isEqualTo(ReadWriteRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖의 실행은 primary")
+    void writeOrNoTransactionUsesPrimary() {
+        assertThat(dataSource.currentKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+
+        beginTransaction(false);
+        assertThat(dataSource.currentKey()).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("primary 고정 중이면 readOnly 트랜잭션도 primary")
+    void pinnedReadOnlyTransactionUsesPrimary() {
+        beginTransaction(true);
+
+        String key = DataSourceRouting.callOnPrimary(dataSource::currentKey);
+
+        assertThat(key).isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+        assertThat(dataSource.currentKey()).isEqualTo(ReadWriteRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    @DisplayName("쓰기 요청은 primary로 고정하고 고정 쿠키를 내려줌")
+    void writeRequestPinsPrimary() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(new MockHttpServletRequest("POST", "/posts"), response, null);
+
+        assertThat(DataSourceRouting.isPrimaryPinned()).isTrue();
+        assertThat(response.getHeader("Set-Cookie")).startsWith(ReadYourWritesInterceptor.PIN_COOKIE + "=");
+    }
+
+    @Test
+    @DisplayName("유효한 고정 쿠키가 있는 조회는 primary로 고정")
+    void validCookiePinsPrimary() {
+        long pinnedUntil = System.currentTimeMillis() + WINDOW.toMillis() / 2;
+
+        preHandleGet(pinnedUntil);
+
+        assertThat(DataSourceRouting.isPrimaryPinned()).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료된 고정 쿠키는 무시")
+    void expiredCookieIsIgnored() {
+        preHandleGet(System.currentTimeMillis() - 1);
+
+        assertThat(DataSourceRouting.isPrimaryPinned()).isFalse();
+    }
+
+    @Test
+    @DisplayName("지금 + window보다 먼 고정 쿠키는 조작된 값으로 보고 무시")
+    void farFutureCookieIsIgnored() {
+        preHandleGet(Long.MAX_VALUE);
+
+        assertThat(DataSourceRouting.isPrimaryPinned()).isFalse();
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private void preHandleGet(long pinnedUntil) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.setCookies(new Cookie(ReadYourWritesInterceptor.PIN_COOKIE, String.valueOf(pinnedUntil)));
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+    }
+
+    // determineCurrentLookupKey는 protected이므로 하위 클래스에서 노출
+    static class TestRoutingDataSource extends ReadWriteRoutingDataSource {
+        String currentKey() {
+            return (String) determineCurrentLookupKey();
+        }
+    }
+}
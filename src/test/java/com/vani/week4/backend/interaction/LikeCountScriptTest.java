@@ -0,0 +1,145 @@
+package com.vani.week4.backend.interaction;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import com.vani.week4.backend.interaction.service.LikeRedisKeys;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 좋아요 수 Lua 스크립트 테스트
+ * - 로컬 Redis(localhost:6379)의 15번 DB 사용, Redis가 없으면 건너뜀
+ * - likesRedisTemplate과 같은 직렬화 설정으로 실행
+ *
+ * @author vani
+ */
+@Tag("redis")
+class LikeCountScriptTest {
+    private static final RedisScript<Long> FILL_COUNT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/like-count-fill.lua"), Long.class);
+    private static final RedisScript<Long> ADD_COUNT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/like-count-add.lua"), Long.class);
+    private static final long TTL_MS = 60_000;
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private String countKey;
+    private String usersKey;
+
+    @BeforeAll
+    static void connect() {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration("localhost", 6379);
+        config.setDatabase(15);
+        connectionFactory = new LettuceConnectionFactory(config);
+        connectionFactory.afterPropertiesSet();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericToStringSerializer<>(Object.class));
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        boolean available;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            available = "PONG".equals(connection.ping());
+        } catch (Exception e) {
+            available = false;
+        }
+        assumeTrue(available, "로컬 Redis 없음");
+
+        String postId = UlidCreator.getUlid().toString();
+        countKey = LikeRedisKeys.likeCountKey(postId);
+        usersKey = LikeRedisKeys.likeUsersKey(postId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (countKey != null) {
+            redisTemplate.delete(List.of(countKey, usersKey));
+        }
+    }
+
+    @Test
+    @DisplayName("채우기 : 캐시된 값이 있으면 DB 값으로 덮지 않음")
+    void fillKeepsExistingCount() {
+        redisTemplate.opsForValue().set(countKey, 7);
+
+        Long result = fill(3);
+
+        assertThat(result).isEqualTo(7L);
+        assertThat(redisTemplate.opsForValue().get(countKey)).hasToString("7");
+        assertThat(redisTemplate.getExpire(countKey)).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("채우기 : 유저 Set이 있으면 센티널을 뺀 Set 크기로 TTL 없이 저장")
+    void fillUsesLoadedUserSet() {
+        redisTemplate.opsForSet().add(usersKey, LikeRedisKeys.LIKE_USERS_SENTINEL, "user-1", "user-2");
+
+        Long result = fill(5);
+
+        assertThat(result).isEqualTo(2L);
+        assertThat(redisTemplate.opsForValue().get(countKey)).hasToString("2");
+        assertThat(redisTemplate.getExpire(countKey)).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("채우기 : 캐시도 Set도 없으면 DB 값을 TTL과 함께 저장")
+    void fillStoresDbCountWithTtl() {
+        Long result = fill(3);
+
+        assertThat(result).isEqualTo(3L);
+        assertThat(redisTemplate.opsForValue().get(countKey)).hasToString("3");
+        assertThat(redisTemplate.getExpire(countKey)).isBetween(1L, TTL_MS / 1000);
+    }
+
+    @Test
+    @DisplayName("증감 : 캐시되지 않은 키는 만들지 않음")
+    void addSkipsMissingKey() {
+        Long result = redisTemplate.execute(ADD_COUNT_SCRIPT, List.of(countKey), 1);
+
+        assertThat(result).isNull();
+        assertThat(redisTemplate.hasKey(countKey)).isFalse();
+    }
+
+    @Test
+    @DisplayName("증감 : 캐시된 값만 증감하고 TTL은 유지")
+    void addIncrementsExistingKey() {
+        fill(3);
+
+        Long result = redisTemplate.execute(ADD_COUNT_SCRIPT, List.of(countKey), -1);
+
+        assertThat(result).isEqualTo(2L);
+        assertThat(redisTemplate.getExpire(countKey)).isPositive();
+    }
+
+    private Long fill(int dbCount) {
+        return redisTemplate.execute(FILL_COUNT_SCRIPT, List.of(countKey, usersKey), dbCount, TTL_MS);
+    }
+}
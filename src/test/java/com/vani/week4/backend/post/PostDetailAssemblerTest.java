@@ -0,0 +1,151 @@
+package com.vani.week4.backend.post;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import com.vani.week4.backend.global.exception.PostNotFoundException;
+import com.vani.week4.backend.infra.S3.S3Service;
+import com.vani.week4.backend.interaction.service.LikeService;
+import com.vani.week4.backend.post.dto.PostDetailSnapshot;
+import com.vani.week4.backend.post.dto.response.PostDetailResponse;
+import com.vani.week4.backend.post.service.PostDetailAssembler;
+import com.vani.week4.backend.post.service.PostDetailCache;
+import com.vani.week4.backend.post.service.ViewCountBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게시글 상세 조립 테스트
+ * - 좋아요 조회가 마감을 넘기거나 실패하면 대체 값으로 응답하는지 확인
+ * @author vani
+ */
+@Tag("unit")
+@ExtendWith(MockitoExtension.class)
+class PostDetailAssemblerTest {
+    private static final long TIMEOUT_MS = 100;
+    private static final long SLOW_MS = 2_000;
+
+    @Mock
+    private PostDetailCache postDetailCache;
+
+    @Mock
+    private LikeService likeService;
+
+    @Mock
+    private S3Service s3Service;
+
+    private ViewCountBuffer viewCountBuffer;
+    private SimpleMeterRegistry meterRegistry;
+    private PostDetailAssembler assembler;
+
+    private String postId;
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        viewCountBuffer = new ViewCountBuffer();
+        meterRegistry = new SimpleMeterRegistry();
+        assembler = new PostDetailAssembler(
+                postDetailCache, likeService, s3Service, viewCountBuffer, meterRegistry, TIMEOUT_MS);
+
+        postId = UlidCreator.getUlid().toString();
+        userId = UlidCreator.getUlid().toString();
+    }
+
+    @AfterEach
+    void tearDown() {
+        assembler.shutdown();
+    }
+
+    @Test
+    @DisplayName("좋아요 조회가 끝나면 조회한 값으로 응답")
+    void assembleWithLikeResults() {
+        when(postDetailCache.get(postId)).thenReturn(snapshot(3, 10));
+        when(likeService.getLikeCount(postId)).thenReturn(12);
+        when(likeService.isLiked(userId, postId)).thenReturn(true);
+
+        PostDetailResponse response = assembler.assemble(postId, userId);
+
+        assertThat(response.stats().likeCount()).isEqualTo(12);
+        assertThat(response.stats().isLiked()).isTrue();
+        assertThat(response.stats().commentCount()).isEqualTo(3);
+        // 캐시된 조회수 + 이번 조회
+        assertThat(response.stats().viewCount()).isEqualTo(11);
+        assertThat(fallbackCount("likeCount")).isZero();
+        assertThat(fallbackCount("isLiked")).isZero();
+    }
+
+    @Test
+    @DisplayName("마감을 넘기면 기다리지 않고 DB 좋아요 수와 null 좋아요 여부로 응답")
+    void fallbackOnDeadline() {
+        when(postDetailCache.get(postId)).thenReturn(snapshot(0, 0));
+        when(likeService.getLikeCount(postId)).thenAnswer(slow(99));
+        when(likeService.isLiked(userId, postId)).thenAnswer(slow(true));
+
+        long startedAt = System.nanoTime();
+        PostDetailResponse response = assembler.assemble(postId, userId);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertThat(elapsedMs).isLessThan(SLOW_MS);
+        assertThat(response.stats().likeCount()).isEqualTo(7);
+        assertThat(response.stats().isLiked()).isNull();
+        assertThat(fallbackCount("likeCount")).isEqualTo(1);
+        assertThat(fallbackCount("isLiked")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("좋아요 조회가 실패하면 DB 좋아요 수와 null 좋아요 여부로 응답")
+    void fallbackOnFailure() {
+        when(postDetailCache.get(postId)).thenReturn(snapshot(0, 0));
+        when(likeService.getLikeCount(postId)).thenThrow(new IllegalStateException("redis down"));
+        when(likeService.isLiked(userId, postId)).thenThrow(new IllegalStateException("redis down"));
+
+        PostDetailResponse response = assembler.assemble(postId, userId);
+
+        assertThat(response.stats().likeCount()).isEqualTo(7);
+        assertThat(response.stats().isLiked()).isNull();
+        assertThat(fallbackCount("likeCount")).isEqualTo(1);
+        assertThat(fallbackCount("isLiked")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게시글이 없으면 PostNotFoundException, 조회수는 올리지 않음")
+    void postNotFound() {
+        when(postDetailCache.get(postId)).thenReturn(null);
+
+        assertThatThrownBy(() -> assembler.assemble(postId, userId))
+                .isInstanceOf(PostNotFoundException.class);
+        assertThat(viewCountBuffer.getPending(postId)).isZero();
+    }
+
+    private PostDetailSnapshot snapshot(long commentCount, long viewCount) {
+        LocalDateTime now = LocalDateTime.now();
+        return new PostDetailSnapshot(
+                postId, "제목", now, now, "본문", null,
+                "작성자", null, viewCount, commentCount, 7
+        );
+    }
+
+    private <T> Answer<T> slow(T result) {
+        return invocation -> {
+            Thread.sleep(SLOW_MS);
+            return result;
+        };
+    }
+
+    private double fallbackCount(String part) {
+        return meterRegistry.get("post.detail.fallback").tag("part", part).counter().count();
+    }
+}
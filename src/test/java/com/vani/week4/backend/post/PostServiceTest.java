@@ -2,12 +2,15 @@ package com.vani.week4.backend.post;
 
 import com.github.f4b6a3.ulid.UlidCreator;
 import com.vani.week4.backend.infra.S3.S3Service;
-import com.vani.week4.backend.interaction.repository.LikeRepository;
 import com.vani.week4.backend.interaction.service.LikeService;
 import com.vani.week4.backend.post.dto.request.PostCreateRequest;
 import com.vani.week4.backend.post.dto.response.PostDetailResponse;
 import com.vani.week4.backend.post.entity.Post;
+import com.vani.week4.backend.post.repository.PostBulkRepository;
 import com.vani.week4.backend.post.repository.PostRepository;
+import com.vani.week4.backend.post.service.FeedHeadCache;
+import com.vani.week4.backend.post.service.PostDetailAssembler;
+import com.vani.week4.backend.post.service.PostDetailCache;
 import com.vani.week4.backend.post.service.PostService;
 import com.vani.week4.backend.user.entity.User;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,7 +38,7 @@ class PostServiceTest {
     private PostRepository postRepository;
 
     @Mock
-    private LikeRepository likeRepository;
+    private PostBulkRepository postBulkRepository;
 
     @Mock
     private LikeService likeService;
@@ -43,6 +46,15 @@ class PostServiceTest {
     @Mock
     private S3Service s3Service;
 
+    @Mock
+    private FeedHeadCache feedHeadCache;
+
+    @Mock
+    private PostDetailCache postDetailCache;
+
+    @Mock
+    private PostDetailAssembler postDetailAssembler;
+
     @InjectMocks
     private PostService postService;
 
@@ -0,0 +1,113 @@
+package com.vani.week4.backend.user;
+
+import com.github.f4b6a3.ulid.UlidCreator;
+import com.vani.week4.backend.comment.entity.Comment;
+import com.vani.week4.backend.comment.repository.CommentRepository;
+import com.vani.week4.backend.post.entity.Post;
+import com.vani.week4.backend.post.repository.PostRepository;
+import com.vani.week4.backend.user.entity.User;
+import com.vani.week4.backend.user.repository.UserRepository;
+import com.vani.week4.backend.user.service.WithdrawnUserPurgeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 탈퇴 회원 정리 통합 테스트
+ * - 실제 DB (H2) 사용
+ * - 다른 회원의 답글이 달린 댓글을 정리해도 댓글 트리와 게시글 댓글 수가 유지되는지 확인
+ *
+ * @author vani
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class WithdrawnUserPurgeServiceTest {
+
+    @Autowired
+    private WithdrawnUserPurgeService withdrawnUserPurgeService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("정리된 회원의 부모 댓글은 내용만 비우고, 다른 회원의 답글과 댓글 수는 유지")
+    void purgedParentKeepsForeignReply() {
+        User author = saveUser("작성자");
+        User purged = saveUser("탈퇴예정");
+        User replier = saveUser("답글러");
+
+        Post post = postRepository.saveAndFlush(Post.builder()
+                .id(UlidCreator.getUlid().toString())
+                .user(author)
+                .title("다른 회원 게시글")
+                .build());
+
+        String parentId = UlidCreator.getUlid().toString();
+        commentRepository.saveAndFlush(Comment.builder()
+                .id(parentId)
+                .user(purged)
+                .post(post)
+                .depth(0)
+                .commentGroup(parentId)
+                .content("탈퇴할 회원의 댓글")
+                .build());
+        String replyId = UlidCreator.getUlid().toString();
+        commentRepository.saveAndFlush(Comment.builder()
+                .id(replyId)
+                .user(replier)
+                .post(post)
+                .parentId(parentId)
+                .depth(1)
+                .commentGroup(parentId)
+                .content("다른 회원의 답글")
+                .build());
+        postRepository.addCommentCount(post.getId(), 2);
+
+        purged.withdraw();
+        userRepository.saveAndFlush(purged);
+
+        withdrawnUserPurgeService.purgeWithdrawnUsers(LocalDateTime.now().plusMinutes(1), 10);
+
+        Map<String, Object> parent = jdbcTemplate.queryForMap(
+                "SELECT content, comment_status FROM comment WHERE id = ?", parentId);
+        assertThat(parent.get("content")).isEqualTo("삭제된 댓글입니다.");
+        assertThat(parent.get("comment_status")).isEqualTo("DELETED");
+
+        Map<String, Object> reply = jdbcTemplate.queryForMap(
+                "SELECT parent_id, content FROM comment WHERE id = ?", replyId);
+        assertThat(reply.get("parent_id")).isEqualTo(parentId);
+        assertThat(reply.get("content")).isEqualTo("다른 회원의 답글");
+
+        Integer commentCount = jdbcTemplate.queryForObject(
+                "SELECT comment_count FROM posts WHERE id = ?", Integer.class, post.getId());
+        assertThat(commentCount).isEqualTo(2);
+
+        String status = jdbcTemplate.queryForObject(
+                "SELECT user_status FROM users WHERE id = ?", String.class, purged.getId());
+        assertThat(status).isEqualTo("PURGED");
+    }
+
+    private User saveUser(String nickname) {
+        return userRepository.saveAndFlush(User.createUser(
+                UlidCreator.getUlid().toString(), nickname, null));
+    }
+}